@@ -0,0 +1,20 @@
+package com.learningapp.config;
+
+import com.learningapp.base.domain.repository.CqrsBatchSettings;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Repository実装に注入する一括処理サイズ
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(CqrsBatchProperties.class)
+public class CqrsBatchConfig {
+    
+    @Bean
+    CqrsBatchSettings cqrsBatchSettings(final CqrsBatchProperties properties) {
+        return new CqrsBatchSettings(
+            properties.command().batchSize(), properties.query().batch().idChunkSize());
+    }
+}
@@ -0,0 +1,41 @@
+package com.learningapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Repositoryの一括処理サイズ（app.cqrs）
+ * 
+ * @param command Command側の設定
+ * @param query Query側の設定
+ */
+@ConfigurationProperties(prefix = "app.cqrs")
+public record CqrsBatchProperties(
+    @DefaultValue Command command,
+    @DefaultValue Query query
+) {
+    
+    /**
+     * @param batchSize saveAll の1回のJDBCバッチあたりの行数
+     */
+    public record Command(
+        @DefaultValue("500") int batchSize
+    ) {
+    }
+    
+    /**
+     * @param batch 一括取得の設定
+     */
+    public record Query(
+        @DefaultValue Batch batch
+    ) {
+    }
+    
+    /**
+     * @param idChunkSize findAllById の1クエリあたりのID数
+     */
+    public record Batch(
+        @DefaultValue("500") int idChunkSize
+    ) {
+    }
+}
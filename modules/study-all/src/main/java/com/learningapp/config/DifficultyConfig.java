@@ -0,0 +1,31 @@
+package com.learningapp.config;
+
+import com.learningapp.plan.domain.strategy.DifficultyTable;
+import com.learningapp.plan.domain.strategy.ThresholdDifficultyStrategy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 難易度判定の閾値表
+ * 
+ * StudyGoalはSpring管理外のため、設定から作成した表を {@link DifficultyTable#install(DifficultyTable)} で登録する
+ * 閾値の誤り（全ての目標に該当する段がない等）は起動時に失敗させる
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(DifficultyProperties.class)
+public class DifficultyConfig {
+    
+    @Bean
+    DifficultyTable difficultyTable(final DifficultyProperties properties) {
+        if (properties.levels().isEmpty()) {
+            return DifficultyTable.current();
+        }
+        final DifficultyTable table = DifficultyTable.compile(properties.levels().stream()
+            .map(level -> new ThresholdDifficultyStrategy(
+                level.minScore(), level.minHours(), level.difficulty(), level.recommendation()))
+            .toList());
+        DifficultyTable.install(table);
+        return table;
+    }
+}
@@ -0,0 +1,33 @@
+package com.learningapp.config;
+
+import com.learningapp.plan.domain.entity.StudyGoal;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 学習目標の難易度判定の閾値（app.plan.difficulty）
+ * 未設定の場合は既定の閾値（DifficultyTable.DEFAULT_STRATEGIES）を使う
+ * 
+ * @param levels 判定順の閾値（先に該当したものを採用、末尾は min-score: 0 / min-hours: 0 とする）
+ */
+@ConfigurationProperties(prefix = "app.plan.difficulty")
+public record DifficultyProperties(
+    @DefaultValue List<Level> levels
+) {
+    
+    /**
+     * @param minScore 目標スコアの下限
+     * @param minHours 目標時間の下限
+     * @param difficulty 該当した場合の難易度
+     * @param recommendation 該当した場合の推奨事項
+     */
+    public record Level(
+        int minScore,
+        int minHours,
+        StudyGoal.GoalDifficulty difficulty,
+        String recommendation
+    ) {
+    }
+}
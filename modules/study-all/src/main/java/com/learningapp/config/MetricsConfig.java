@@ -0,0 +1,19 @@
+package com.learningapp.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * メトリクス設定
+ * サービスの @Timed（学習計画作成のレイテンシ等）を有効にする
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+    
+    @Bean
+    TimedAspect timedAspect(final MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
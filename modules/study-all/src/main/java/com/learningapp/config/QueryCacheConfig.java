@@ -0,0 +1,90 @@
+package com.learningapp.config;
+
+import com.learningapp.infrastructure.cache.CacheInvalidationListener;
+import com.learningapp.infrastructure.cache.LocalCacheInvalidationBus;
+import com.learningapp.infrastructure.cache.RedisCacheInvalidationPublisher;
+import com.learningapp.infrastructure.cache.TwoTierCacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Query側キャッシュの構成（app.cqrs.query.cache）
+ * 
+ * two-tier: L1（Caffeine）+ L2（Redis）、L1の無効化はRedis Pub/Subで全ノードへ配信
+ * local: L1 + JVM内マップのL2（値はシリアライズして保持）、無効化はJVM内バス（Redisなしのテスト用）
+ * 
+ * CacheManagerを定義するため、Spring Bootのキャッシュ自動構成は無効になる
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(QueryCacheProperties.class)
+@ConditionalOnProperty(prefix = "app.cqrs.query.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCacheConfig {
+    
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "app.cqrs.query.cache", name = "mode", havingValue = "two-tier", matchIfMissing = true)
+    static class TwoTierConfig {
+        
+        @Bean
+        TwoTierCacheManager cacheManager(final RedisConnectionFactory connectionFactory,
+                                         final StringRedisTemplate redisTemplate,
+                                         final QueryCacheProperties properties) {
+            // 値はJDKシリアライズで保存する（エンティティはfinalフィールド・ファクトリ生成のためJSONでは復元できない）
+            final RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(properties.ttl())
+                .prefixCacheNameWith("app:cache:")
+                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                    .fromSerializer(RedisSerializer.java(TwoTierConfig.class.getClassLoader())));
+            final RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .build();
+            
+            return new TwoTierCacheManager(redisCacheManager, properties.local(),
+                new RedisCacheInvalidationPublisher(redisTemplate, properties.invalidationChannel()));
+        }
+        
+        @Bean
+        RedisMessageListenerContainer cacheInvalidationListenerContainer(final RedisConnectionFactory connectionFactory,
+                                                                         final TwoTierCacheManager cacheManager,
+                                                                         final QueryCacheProperties properties) {
+            final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(new CacheInvalidationListener(cacheManager::onInvalidation),
+                new ChannelTopic(properties.invalidationChannel()));
+            return container;
+        }
+    }
+    
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "app.cqrs.query.cache", name = "mode", havingValue = "local")
+    static class LocalConfig {
+        
+        @Bean
+        LocalCacheInvalidationBus cacheInvalidationBus() {
+            return new LocalCacheInvalidationBus();
+        }
+        
+        @Bean
+        TwoTierCacheManager cacheManager(final LocalCacheInvalidationBus invalidationBus,
+                                         final QueryCacheProperties properties) {
+            // Redisと同じくシリアライズして保持し、シリアライズできない値をテストで検出する
+            final ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager();
+            remoteCacheManager.setBeanClassLoader(LocalConfig.class.getClassLoader());
+            remoteCacheManager.setStoreByValue(true);
+            final TwoTierCacheManager cacheManager =
+                new TwoTierCacheManager(remoteCacheManager, properties.local(), invalidationBus);
+            invalidationBus.subscribe(cacheManager::onInvalidation);
+            return cacheManager;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.learningapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.boot.convert.DurationUnit;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Query側キャッシュの設定（app.cqrs.query.cache）
+ * 
+ * @param enabled キャッシュを有効にするか
+ * @param mode キャッシュ構成
+ * @param ttl L2（共有キャッシュ）の有効期間（秒）
+ * @param local L1（JVM内キャッシュ）の設定
+ * @param invalidationChannel L1無効化を配信するRedisのチャンネル名
+ */
+@ConfigurationProperties(prefix = "app.cqrs.query.cache")
+public record QueryCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("two-tier") Mode mode,
+    @DefaultValue("300") @DurationUnit(ChronoUnit.SECONDS) Duration ttl,
+    @DefaultValue Local local,
+    @DefaultValue("app:cache:invalidation") String invalidationChannel
+) {
+    
+    /**
+     * @param maximumSize キャッシュ毎の最大エントリ数
+     * @param ttl 有効期間（秒）。無効化メッセージの取りこぼしに備え、L2より短くする
+     */
+    public record Local(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("60") @DurationUnit(ChronoUnit.SECONDS) Duration ttl
+    ) {
+    }
+    
+    public enum Mode {
+        /** L1: Caffeine、L2: Redis（全ノードで共有） */
+        TWO_TIER,
+        /** L1: Caffeine、L2: JVM内マップ（Redisなしのテスト用スタンドイン） */
+        LOCAL
+    }
+}
@@ -0,0 +1,94 @@
+package com.learningapp.config;
+
+import com.learningapp.infrastructure.datasource.ReadYourWritesFilter;
+import com.learningapp.infrastructure.datasource.ReplicaDataSources;
+import com.learningapp.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.learningapp.infrastructure.datasource.ReplicationLagMonitor;
+import com.learningapp.infrastructure.datasource.RepositoryRoutingAspect;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Query側のリードレプリカ振り分け（app.cqrs.query.database=replica）
+ * 
+ * プライマリは spring.datasource、レプリカは app.cqrs.query.replica.endpoints から接続プールを作り、
+ * 役割に応じて振り分けるDataSourceを @Primary として公開する
+ * 
+ * 2台のH2で試験する場合は endpoints にH2のURLを指定し、lag-query を {@code SELECT 0} にする
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(prefix = "app.cqrs.query", name = "database", havingValue = "replica")
+public class ReplicaRoutingConfig {
+    
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        final HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+    
+    @Bean
+    ReplicaDataSources replicaDataSources(final ReplicaRoutingProperties properties) {
+        final List<ReplicaRoutingProperties.Endpoint> endpoints = properties.endpoints();
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("app.cqrs.query.replica.endpoints にレプリカを1つ以上指定してください");
+        }
+        
+        final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < endpoints.size(); i++) {
+            final ReplicaRoutingProperties.Endpoint endpoint = endpoints.get(i);
+            final HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(endpoint.url());
+            pool.setUsername(endpoint.username());
+            pool.setPassword(endpoint.password());
+            pool.setMaximumPoolSize(endpoint.maximumPoolSize());
+            pool.setReadOnly(true);
+            pools.put(pool.getPoolName(), pool);
+        }
+        return new ReplicaDataSources(pools);
+    }
+    
+    @Bean
+    ReplicationLagMonitor replicationLagMonitor(final ReplicaDataSources replicaDataSources,
+                                                final ReplicaRoutingProperties properties) {
+        return new ReplicationLagMonitor(replicaDataSources.pools(), properties.maxLag(), properties.lagQuery());
+    }
+    
+    @Bean
+    @Primary
+    DataSource dataSource(final HikariDataSource primaryDataSource,
+                          final ReplicaDataSources replicaDataSources,
+                          final ReplicationLagMonitor replicationLagMonitor) {
+        final ReplicaRoutingDataSource routingDataSource =
+            new ReplicaRoutingDataSource(primaryDataSource, replicaDataSources.pools(), replicationLagMonitor);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+    
+    @Bean
+    RepositoryRoutingAspect repositoryRoutingAspect(final ReplicaRoutingProperties properties) {
+        return new RepositoryRoutingAspect(properties.readYourWritesWindow());
+    }
+    
+    @Bean
+    ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+}
@@ -0,0 +1,47 @@
+package com.learningapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Query側のリードレプリカ設定（app.cqrs.query.replica）
+ * app.cqrs.query.database=replica の場合のみ使用する
+ * 
+ * @param endpoints レプリカの接続先（複数指定時はラウンドロビン）
+ * @param maxLag 許容するレプリケーション遅延（超えたレプリカは使わずプライマリへフォールバック）
+ * @param lagCheckInterval 遅延の計測間隔
+ * @param lagQuery 遅延（秒）を返すSQL（H2等で試験する場合は {@code SELECT 0}）
+ * @param readYourWritesWindow 書き込み後に読み込みをプライマリへ固定する期間
+ */
+@ConfigurationProperties(prefix = "app.cqrs.query.replica")
+public record ReplicaRoutingProperties(
+    List<Endpoint> endpoints,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("1s") Duration lagCheckInterval,
+    @DefaultValue(POSTGRES_LAG_QUERY) String lagQuery,
+    @DefaultValue("5s") Duration readYourWritesWindow
+) {
+    
+    /**
+     * 受信済みWALを全て適用済みなら遅延0、そうでなければ最後に適用したトランザクションからの経過秒数
+     * （プライマリが更新されていない間に遅延が増え続けて見えることを避ける）
+     */
+    public static final String POSTGRES_LAG_QUERY =
+        "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+    
+    public ReplicaRoutingProperties {
+        endpoints = endpoints == null ? List.of() : List.copyOf(endpoints);
+    }
+    
+    public record Endpoint(
+        String url,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+}
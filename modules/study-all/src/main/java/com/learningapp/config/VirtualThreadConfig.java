@@ -0,0 +1,73 @@
+package com.learningapp.config;
+
+import com.learningapp.infrastructure.datasource.ConnectionGateDataSource;
+import com.learningapp.infrastructure.monitoring.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 仮想スレッド実行モードのガードレール
+ * 
+ * spring.threads.virtual.enabled=true（JDK 21以上）でTomcatのリクエスト処理・@Scheduled・@Asyncが仮想スレッドで動く。
+ * その際に、接続プール手前のセマフォ（{@link ConnectionGateDataSource}）とピン留めの計測を追加する
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadConfig {
+    
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+    
+    /**
+     * アプリケーションが使うDataSource（読み書き振り分け後）を包む
+     * 個別の接続プールは包まないため、振り分け先のプール全体で許可数を共有する
+     */
+    @Bean
+    static BeanPostProcessor connectionGatePostProcessor(final ObjectProvider<VirtualThreadProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)
+                    || bean instanceof ConnectionGateDataSource) {
+                    return bean;
+                }
+                final VirtualThreadProperties.ConnectionGate gate = properties.getObject().connectionGate();
+                return new ConnectionGateDataSource(dataSource, gate.permits(), gate.acquireTimeout(), gate.maxWaiting());
+            }
+        };
+    }
+    
+    @Bean
+    MeterBinder connectionGateMetrics(final ObjectProvider<DataSource> dataSource) {
+        return registry -> {
+            if (!(dataSource.getIfAvailable() instanceof ConnectionGateDataSource gate)) {
+                return;
+            }
+            Gauge.builder("db.connection.gate.available", gate, ConnectionGateDataSource::getAvailablePermits)
+                .register(registry);
+            Gauge.builder("db.connection.gate.waiting", gate, ConnectionGateDataSource::getWaitingCount)
+                .register(registry);
+            FunctionCounter.builder("db.connection.gate.rejected", gate, ConnectionGateDataSource::getRejectedCount)
+                .register(registry);
+            FunctionCounter.builder("db.connection.gate.timeouts", gate, ConnectionGateDataSource::getTimedOutCount)
+                .register(registry);
+        };
+    }
+    
+    @Bean
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(final MeterRegistry meterRegistry,
+                                                            final VirtualThreadProperties properties) {
+        return new VirtualThreadPinningMonitor(meterRegistry, properties.pinning().threshold());
+    }
+}
@@ -0,0 +1,40 @@
+package com.learningapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 仮想スレッド実行時のガードレール設定（app.virtual-threads）
+ * spring.threads.virtual.enabled=true かつJDK 21以上の場合のみ使用する
+ * 
+ * @param connectionGate 接続プール手前のセマフォ
+ * @param pinning ピン留め（キャリアスレッドの占有）の計測
+ */
+@ConfigurationProperties(prefix = "app.virtual-threads")
+public record VirtualThreadProperties(
+    @DefaultValue ConnectionGate connectionGate,
+    @DefaultValue Pinning pinning
+) {
+    
+    /**
+     * @param permits 同時に保持できる接続数（Hikariのmaximum-pool-sizeに合わせる）
+     * @param acquireTimeout 許可の待ち時間の上限
+     * @param maxWaiting 待機できる要求数の上限（超えた要求は即座に失敗させる）
+     */
+    public record ConnectionGate(
+        @DefaultValue("20") int permits,
+        @DefaultValue("5s") Duration acquireTimeout,
+        @DefaultValue("2000") int maxWaiting
+    ) {
+    }
+    
+    /**
+     * @param threshold この時間以上のピン留めを記録する
+     */
+    public record Pinning(
+        @DefaultValue("20ms") Duration threshold
+    ) {
+    }
+}
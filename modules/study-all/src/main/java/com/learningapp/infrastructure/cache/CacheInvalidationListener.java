@@ -0,0 +1,30 @@
+package com.learningapp.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Subで受信した無効化をL1キャッシュに適用する
+ * 適用先は {@link TwoTierCacheManager#onInvalidation} または {@link NearCacheInvalidationRelay#onInvalidation}
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+    
+    private final Consumer<CacheInvalidationMessage> subscriber;
+    
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        final String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            subscriber.accept(CacheInvalidationMessage.decode(body));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", body);
+        }
+    }
+}
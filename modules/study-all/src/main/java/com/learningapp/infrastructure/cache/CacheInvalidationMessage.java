@@ -0,0 +1,63 @@
+package com.learningapp.infrastructure.cache;
+
+import java.util.Objects;
+
+/**
+ * L1キャッシュの無効化メッセージ
+ * 
+ * @param originNodeId 送信元ノード（自ノードが送ったメッセージは無視する）
+ * @param cacheName キャッシュ名
+ * @param key 無効化するキー（nullの場合はキャッシュ全体）
+ */
+public record CacheInvalidationMessage(
+    String originNodeId,
+    String cacheName,
+    String key
+) {
+    
+    private static final String SEPARATOR = "|";
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+    
+    public CacheInvalidationMessage {
+        Objects.requireNonNull(originNodeId, "Origin node id must not be null");
+        Objects.requireNonNull(cacheName, "Cache name must not be null");
+    }
+    
+    public static CacheInvalidationMessage evict(final String originNodeId, final String cacheName, final String key) {
+        return new CacheInvalidationMessage(originNodeId, cacheName, Objects.requireNonNull(key, "Key must not be null"));
+    }
+    
+    public static CacheInvalidationMessage clear(final String originNodeId, final String cacheName) {
+        return new CacheInvalidationMessage(originNodeId, cacheName, null);
+    }
+    
+    public boolean isClear() {
+        return key == null;
+    }
+    
+    /**
+     * 配信用の文字列表現（{@code E|node|cache|key} / {@code C|node|cache}）
+     * キーは最後のフィールドのため区切り文字を含んでもよい
+     */
+    public String encode() {
+        return isClear()
+            ? String.join(SEPARATOR, CLEAR, originNodeId, cacheName)
+            : String.join(SEPARATOR, EVICT, originNodeId, cacheName, key);
+    }
+    
+    public static CacheInvalidationMessage decode(final String encoded) {
+        if (encoded == null) {
+            throw new IllegalArgumentException("無効化メッセージが空です");
+        }
+        
+        final String[] parts = encoded.split("\\|", 4);
+        if (parts.length == 3 && CLEAR.equals(parts[0])) {
+            return clear(parts[1], parts[2]);
+        }
+        if (parts.length == 4 && EVICT.equals(parts[0])) {
+            return evict(parts[1], parts[2], parts[3]);
+        }
+        throw new IllegalArgumentException("無効化メッセージの形式が不正です: " + encoded);
+    }
+}
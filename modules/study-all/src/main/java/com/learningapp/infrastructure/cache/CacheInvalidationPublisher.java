@@ -0,0 +1,10 @@
+package com.learningapp.infrastructure.cache;
+
+/**
+ * L1キャッシュの無効化を他ノードへ配信する
+ */
+@FunctionalInterface
+public interface CacheInvalidationPublisher {
+    
+    void publish(CacheInvalidationMessage message);
+}
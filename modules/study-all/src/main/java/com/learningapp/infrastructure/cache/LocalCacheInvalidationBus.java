@@ -0,0 +1,23 @@
+package com.learningapp.infrastructure.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * JVM内で無効化を配信するバス（Redis Pub/Subのスタンドイン）
+ * 複数の {@link TwoTierCacheManager} を同じバスに登録すると、複数ノード構成をRedisなしで再現できる
+ */
+public class LocalCacheInvalidationBus implements CacheInvalidationPublisher {
+    
+    private final List<Consumer<CacheInvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+    
+    public void subscribe(final Consumer<CacheInvalidationMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+    
+    @Override
+    public void publish(final CacheInvalidationMessage message) {
+        subscribers.forEach(subscriber -> subscriber.accept(message));
+    }
+}
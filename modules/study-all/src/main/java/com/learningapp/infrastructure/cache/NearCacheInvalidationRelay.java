@@ -0,0 +1,53 @@
+package com.learningapp.infrastructure.cache;
+
+import com.learningapp.base.infrastructure.cache.NearCacheInvalidationPublisher;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * プロセス内キャッシュ（CachingUserQueryRepository 等）の無効化を {@link TwoTierCache} と同じ配信経路で他ノードへ届ける
+ * 
+ * 送信はキャッシュのpublisherとして渡し、受信は {@link #onInvalidation} をバスに登録する
+ * （Redisでは {@link CacheInvalidationListener}、ローカルモードでは {@link LocalCacheInvalidationBus}）。
+ * 受信の適用先はキャッシュの生成後に {@link #bind} で設定する
+ */
+public class NearCacheInvalidationRelay implements NearCacheInvalidationPublisher {
+    
+    private final String nodeId = UUID.randomUUID().toString();
+    private final String cacheName;
+    private final CacheInvalidationPublisher publisher;
+    private volatile Consumer<String> target = key -> { };
+    
+    public NearCacheInvalidationRelay(final String cacheName, final CacheInvalidationPublisher publisher) {
+        this.cacheName = Objects.requireNonNull(cacheName, "Cache name must not be null");
+        this.publisher = Objects.requireNonNull(publisher, "Publisher must not be null");
+    }
+    
+    /**
+     * 他ノードからの無効化の適用先を設定
+     * 
+     * @param target 無効化キー（nullの場合は全体）を受け取る処理
+     */
+    public void bind(final Consumer<String> target) {
+        this.target = Objects.requireNonNull(target, "Target must not be null");
+    }
+    
+    @Override
+    public void publish(final String key) {
+        publisher.publish(key != null
+            ? CacheInvalidationMessage.evict(nodeId, cacheName, key)
+            : CacheInvalidationMessage.clear(nodeId, cacheName));
+    }
+    
+    /**
+     * バスから受信した無効化のうち、他ノードが送った自キャッシュ宛てのものを適用する
+     */
+    public void onInvalidation(final CacheInvalidationMessage message) {
+        if (nodeId.equals(message.originNodeId()) || !cacheName.equals(message.cacheName())) {
+            return;
+        }
+        target.accept(message.key());
+    }
+}
@@ -0,0 +1,25 @@
+package com.learningapp.infrastructure.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Objects;
+
+/**
+ * Redis Pub/Subで無効化を配信する
+ * Pub/Subは配信保証がないため、取りこぼしはL1のTTLで回収する
+ */
+public class RedisCacheInvalidationPublisher implements CacheInvalidationPublisher {
+    
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    
+    public RedisCacheInvalidationPublisher(final StringRedisTemplate redisTemplate, final String channel) {
+        this.redisTemplate = Objects.requireNonNull(redisTemplate, "Redis template must not be null");
+        this.channel = Objects.requireNonNull(channel, "Channel must not be null");
+    }
+    
+    @Override
+    public void publish(final CacheInvalidationMessage message) {
+        redisTemplate.convertAndSend(channel, message.encode());
+    }
+}
@@ -0,0 +1,127 @@
+package com.learningapp.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * 2層キャッシュ（L1: JVM内Caffeine、L2: 全ノード共有のRedis）
+ * 
+ * 読み込みはL1 → L2 → ローダーの順に参照し、下位層のヒットは上位層へ書き戻す
+ * {@link #get(Object, Callable)} のローダーはCaffeineのキー単位の計算で1キーにつき1回だけ実行される
+ * （同一ノード内のスタンピード防止。ノード間ではノード数が上限となる）
+ * 
+ * 書き込み・削除はL2 → L1の順に反映する
+ * 他ノードのL1への無効化は {@link #evict} / {@link #clear} のみが配信する。{@link #put} はキャッシュミス時の
+ * 書き戻し（@Cacheable）として呼ばれるため配信しない。値を更新する場合は put ではなく evict すること
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+    
+    private final String name;
+    private final String nodeId;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationPublisher publisher;
+    
+    public TwoTierCache(final String name,
+                        final String nodeId,
+                        final com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                        final Cache remote,
+                        final CacheInvalidationPublisher publisher) {
+        super(true);
+        this.name = Objects.requireNonNull(name, "Name must not be null");
+        this.nodeId = Objects.requireNonNull(nodeId, "Node id must not be null");
+        this.local = Objects.requireNonNull(local, "Local cache must not be null");
+        this.remote = Objects.requireNonNull(remote, "Remote cache must not be null");
+        this.publisher = Objects.requireNonNull(publisher, "Publisher must not be null");
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+    
+    @Override
+    protected Object lookup(final Object key) {
+        final String localKey = localKey(key);
+        final Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return cached;
+        }
+        
+        final ValueWrapper remoteValue = remote.get(key);
+        if (remoteValue == null) {
+            return null;
+        }
+        final Object storeValue = toStoreValue(remoteValue.get());
+        local.put(localKey, storeValue);
+        return storeValue;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        final Object storeValue = local.get(localKey(key), k -> {
+            final ValueWrapper remoteValue = remote.get(key);
+            if (remoteValue != null) {
+                return toStoreValue(remoteValue.get());
+            }
+            
+            final T loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            remote.put(key, loaded);
+            return toStoreValue(loaded);
+        });
+        return (T) fromStoreValue(storeValue);
+    }
+    
+    @Override
+    public void put(final Object key, final Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), toStoreValue(value));
+    }
+    
+    @Override
+    public void evict(final Object key) {
+        remote.evict(key);
+        final String localKey = localKey(key);
+        local.invalidate(localKey);
+        publisher.publish(CacheInvalidationMessage.evict(nodeId, name, localKey));
+    }
+    
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        publisher.publish(CacheInvalidationMessage.clear(nodeId, name));
+    }
+    
+    /**
+     * 他ノードからの無効化をL1のみに適用する（L2は送信元で更新済み）
+     */
+    void evictLocal(final String localKey) {
+        local.invalidate(localKey);
+    }
+    
+    void clearLocal() {
+        local.invalidateAll();
+    }
+    
+    /**
+     * L1のキー（RedisCacheと同じく文字列表現でキーを同一視する）
+     */
+    private static String localKey(final Object key) {
+        return String.valueOf(key);
+    }
+}
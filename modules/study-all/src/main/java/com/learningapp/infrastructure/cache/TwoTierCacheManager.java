@@ -0,0 +1,83 @@
+package com.learningapp.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.learningapp.config.QueryCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link TwoTierCache} のCacheManager
+ * L2は既存のCacheManager（RedisCacheManager等）から同名のキャッシュを取得し、L1を被せる
+ * 
+ * ノードIDは起動毎に採番し、自ノードが配信した無効化は受信時に無視する
+ */
+public class TwoTierCacheManager implements CacheManager {
+    
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheManager remoteCacheManager;
+    private final QueryCacheProperties.Local localProperties;
+    private final CacheInvalidationPublisher publisher;
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    
+    public TwoTierCacheManager(final CacheManager remoteCacheManager,
+                               final QueryCacheProperties.Local localProperties,
+                               final CacheInvalidationPublisher publisher) {
+        this.remoteCacheManager = Objects.requireNonNull(remoteCacheManager, "Remote cache manager must not be null");
+        this.localProperties = Objects.requireNonNull(localProperties, "Local cache properties must not be null");
+        this.publisher = Objects.requireNonNull(publisher, "Publisher must not be null");
+    }
+    
+    @Override
+    public Cache getCache(final String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+    
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+    
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    /**
+     * 他ノードからの無効化を受信
+     */
+    public void onInvalidation(final CacheInvalidationMessage message) {
+        if (nodeId.equals(message.originNodeId())) {
+            return;
+        }
+        
+        final TwoTierCache cache = caches.get(message.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (message.isClear()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(message.key());
+        }
+    }
+    
+    private TwoTierCache createCache(final String name) {
+        final Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            throw new IllegalArgumentException("L2キャッシュが見つかりません: " + name);
+        }
+        
+        final com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+            .maximumSize(localProperties.maximumSize())
+            .expireAfterWrite(localProperties.ttl())
+            .recordStats()
+            .build();
+        return new TwoTierCache(name, nodeId, local, remote, publisher);
+    }
+}
@@ -0,0 +1,170 @@
+package com.learningapp.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 接続プールの手前で同時取得数を制限するDataSource
+ * 
+ * 仮想スレッドでは数千のリクエストが同時に接続を要求するため、全てがプールの待ち行列に並んで
+ * connection-timeoutまで待つことになる。ここで公平なセマフォで順番に待たせ、
+ * 待機数が上限を超えた要求は待たせずに失敗させる（負荷遮断）
+ * 
+ * 許可は取得した接続のclose()で返却する。許可数はプールの最大サイズに合わせること
+ */
+public class ConnectionGateDataSource extends DelegatingDataSource {
+    
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final Duration acquireTimeout;
+    private final int maxWaiting;
+    
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    
+    public ConnectionGateDataSource(final DataSource target, final int maxPermits,
+                                    final Duration acquireTimeout, final int maxWaiting) {
+        super(Objects.requireNonNull(target, "Target data source must not be null"));
+        if (maxPermits <= 0) {
+            throw new IllegalArgumentException("同時接続数は1以上である必要があります");
+        }
+        if (maxWaiting < 0) {
+            throw new IllegalArgumentException("待機数の上限は0以上である必要があります");
+        }
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeout = Objects.requireNonNull(acquireTimeout, "Acquire timeout must not be null");
+        this.maxWaiting = maxWaiting;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+    
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        acquirePermit();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+    
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+    
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+    
+    public int getWaitingCount() {
+        return waiting.get();
+    }
+    
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+    
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+    
+    /**
+     * セマフォの待ち行列に並んでいる要求があるか（公平性の試験用）
+     */
+    boolean hasQueuedAcquirers() {
+        return permits.hasQueuedThreads();
+    }
+    
+    private void acquirePermit() throws SQLException {
+        try {
+            // 待機中の要求を追い越さない（引数なしの tryAcquire() は公平なセマフォでも割り込む）
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+            
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                rejected.increment();
+                throw new SQLTransientConnectionException("Connection gate is saturated (waiting > " + maxWaiting + ")");
+            }
+            try {
+                if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    timedOut.increment();
+                    throw new SQLTransientConnectionException(
+                        "Connection permit not available, request timed out after " + acquireTimeout.toMillis() + "ms");
+                }
+            } finally {
+                waiting.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit", e);
+        }
+    }
+    
+    /**
+     * close()で許可を1回だけ返却する接続プロキシ
+     */
+    private Connection guard(final Connection target) {
+        final AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionProxy.class.getClassLoader(),
+            new Class<?>[] {ConnectionProxy.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    case "getTargetConnection":
+                        return target;
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return invoke(target, method, args);
+                }
+            });
+    }
+    
+    private static Object invoke(final Connection target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
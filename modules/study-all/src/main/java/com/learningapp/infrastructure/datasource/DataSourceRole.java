@@ -0,0 +1,11 @@
+package com.learningapp.infrastructure.datasource;
+
+/**
+ * 接続先の役割
+ */
+public enum DataSourceRole {
+    /** 書き込み・整合性が必要な読み込み */
+    PRIMARY,
+    /** 遅延を許容できる読み込み */
+    REPLICA
+}
@@ -0,0 +1,28 @@
+package com.learningapp.infrastructure.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 有効なread-your-writesトークンを持つリクエストの読み込みをプライマリに固定する
+ * リクエスト終了時にスレッドの接続先指定を必ず消去する
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        RoutingContext.beginRequest(ReadYourWritesToken.isActive(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RoutingContext.clear();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.learningapp.infrastructure.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * read-your-writesトークン
+ * 書き込みを行ったクライアントに有効期限付きのCookieを発行し、期限内の読み込みをプライマリに固定する
+ * 
+ * 期限をCookie自体に持たせるため、ロードバランサがどのノードに振り分けても同じ判定になる
+ */
+public final class ReadYourWritesToken {
+    
+    public static final String COOKIE_NAME = "rywt";
+    
+    private static final String ISSUED_ATTRIBUTE = ReadYourWritesToken.class.getName() + ".ISSUED";
+    
+    private ReadYourWritesToken() {
+    }
+    
+    /**
+     * 現在のリクエストのレスポンスにトークンを付与する（1リクエストにつき1回、Web以外の呼び出しでは何もしない）
+     */
+    static void issue(final Duration window) {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return;
+        }
+        final HttpServletResponse response = servletAttributes.getResponse();
+        if (response == null || response.isCommitted()
+            || attributes.getAttribute(ISSUED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        
+        final long until = System.currentTimeMillis() + window.toMillis();
+        final Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        response.addCookie(cookie);
+        attributes.setAttribute(ISSUED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+    
+    /**
+     * リクエストに有効なトークンが付いているか
+     */
+    public static boolean isActive(final HttpServletRequest request) {
+        final Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        
+        for (final Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package com.learningapp.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.Map;
+
+/**
+ * レプリカの接続プール（アプリケーション終了時に全て閉じる）
+ * 
+ * @param pools レプリカ名 → 接続プール
+ */
+public record ReplicaDataSources(Map<String, HikariDataSource> pools) implements AutoCloseable {
+    
+    public ReplicaDataSources {
+        pools = Map.copyOf(pools);
+    }
+    
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
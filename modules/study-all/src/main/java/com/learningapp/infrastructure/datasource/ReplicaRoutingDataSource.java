@@ -0,0 +1,68 @@
+package com.learningapp.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * プライマリとリードレプリカを振り分けるDataSource
+ * 
+ * 次の条件を全て満たす場合のみレプリカを使い、それ以外はプライマリに接続する
+ * - Query Repositoryからの呼び出し（{@link RoutingContext#currentRole()} がREPLICA）
+ * - read-your-writesでプライマリに固定されていない
+ * - トランザクション外、または読み取り専用トランザクション
+ * - レプリケーション遅延が許容範囲内
+ * 
+ * 接続取得時に振り分けるため、LazyConnectionDataSourceProxyで包み、最初のSQL実行まで接続取得を遅らせて使う
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    
+    static final String PRIMARY_KEY = "primary";
+    
+    private final List<String> replicaKeys;
+    private final ReplicationLagMonitor lagMonitor;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    
+    public ReplicaRoutingDataSource(final DataSource primary,
+                                    final Map<String, ? extends DataSource> replicas,
+                                    final ReplicationLagMonitor lagMonitor) {
+        this.lagMonitor = Objects.requireNonNull(lagMonitor, "Lag monitor must not be null");
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        
+        final Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY_KEY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!isReplicaEligible()) {
+            return PRIMARY_KEY;
+        }
+        
+        // ラウンドロビンで遅延が許容範囲内のレプリカを選ぶ
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            final String key = replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+            if (lagMonitor.isWithinMaxLag(key)) {
+                return key;
+            }
+        }
+        return PRIMARY_KEY;
+    }
+    
+    private static boolean isReplicaEligible() {
+        if (RoutingContext.currentRole() != DataSourceRole.REPLICA || RoutingContext.isPinnedToPrimary()) {
+            return false;
+        }
+        // 読み書きトランザクション内の読み込みは書き込みと同じ接続（プライマリ）を使う
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+            || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,70 @@
+package com.learningapp.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * レプリカ毎のレプリケーション遅延を定期的に計測する
+ * 計測に失敗したレプリカ、まだ計測していないレプリカは使用不可として扱う
+ */
+@Slf4j
+public class ReplicationLagMonitor {
+    
+    private final Map<String, ? extends DataSource> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final Map<String, Duration> lags = new ConcurrentHashMap<>();
+    
+    public ReplicationLagMonitor(final Map<String, ? extends DataSource> replicas,
+                                 final Duration maxLag,
+                                 final String lagQuery) {
+        this.replicas = Map.copyOf(replicas);
+        this.maxLag = Objects.requireNonNull(maxLag, "Max lag must not be null");
+        this.lagQuery = Objects.requireNonNull(lagQuery, "Lag query must not be null");
+    }
+    
+    @Scheduled(fixedDelayString = "${app.cqrs.query.replica.lag-check-interval:1s}")
+    public void checkLag() {
+        replicas.forEach((key, dataSource) -> {
+            try {
+                lags.put(key, measure(dataSource));
+            } catch (SQLException e) {
+                lags.remove(key);
+                log.warn("Replication lag check failed for replica {}: {}", key, e.getMessage());
+            }
+        });
+    }
+    
+    public boolean isWithinMaxLag(final String replicaKey) {
+        final Duration lag = lags.get(replicaKey);
+        return lag != null && lag.compareTo(maxLag) <= 0;
+    }
+    
+    /**
+     * 直近の計測結果（計測できていないレプリカは含まない）
+     */
+    public Map<String, Duration> getLags() {
+        return Map.copyOf(lags);
+    }
+    
+    private Duration measure(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                throw new SQLException("Lag query returned no rows");
+            }
+            return Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000));
+        }
+    }
+}
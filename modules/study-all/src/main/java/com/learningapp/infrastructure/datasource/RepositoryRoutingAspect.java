@@ -0,0 +1,46 @@
+package com.learningapp.infrastructure.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.time.Duration;
+
+/**
+ * Repositoryの種類で接続先の役割を決める
+ * *QueryRepository はレプリカ、*CommandRepository はプライマリ
+ * 
+ * 書き込みが成功したら、同じリクエストの以降の読み込みと、read-your-writesトークンの有効期間中の読み込みをプライマリに固定する
+ * リクエスト外（@Scheduled・@Async等）の書き込みでは固定しない。書き込み直後に読み直す処理は
+ * 読み書きトランザクション内で行うこと（トランザクション内の読み込みは常にプライマリを使う）
+ */
+@Aspect
+@RequiredArgsConstructor
+public class RepositoryRoutingAspect {
+    
+    private final Duration readYourWritesWindow;
+    
+    @Around("within(com.learningapp..*QueryRepository+)")
+    public Object routeQuery(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceedAs(DataSourceRole.REPLICA, joinPoint);
+    }
+    
+    @Around("within(com.learningapp..*CommandRepository+)")
+    public Object routeCommand(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Object result = proceedAs(DataSourceRole.PRIMARY, joinPoint);
+        if (RoutingContext.pinToPrimary()) {
+            ReadYourWritesToken.issue(readYourWritesWindow);
+        }
+        return result;
+    }
+    
+    private static Object proceedAs(final DataSourceRole role, final ProceedingJoinPoint joinPoint) throws Throwable {
+        final DataSourceRole previous = RoutingContext.enter(role);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RoutingContext.restore(previous);
+        }
+    }
+}
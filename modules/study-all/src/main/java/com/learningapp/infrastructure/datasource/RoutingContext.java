@@ -0,0 +1,78 @@
+package com.learningapp.infrastructure.datasource;
+
+/**
+ * スレッド毎の接続先指定
+ * Repository呼び出しの役割（{@link #enter}）と、リクエスト単位のプライマリ固定（{@link #pinToPrimary}）を保持する
+ * 
+ * プライマリ固定は {@link #beginRequest} から {@link #clear} までの間だけ有効で、それ以外では記録しない。
+ * リクエストを経由しないスレッド（@Scheduled・@Async・Executor）はプールで再利用されるため、
+ * 固定すると消去されずにそのスレッドの以降の読み込みが全てプライマリに向いてしまう
+ */
+public final class RoutingContext {
+    
+    private static final ThreadLocal<DataSourceRole> ROLE = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+    
+    private RoutingContext() {
+    }
+    
+    /**
+     * 役割を設定し、直前の役割を返す
+     * 呼び出し側はfinallyで {@link #restore} し、入れ子の呼び出しでも元の役割に戻すこと
+     */
+    public static DataSourceRole enter(final DataSourceRole role) {
+        final DataSourceRole previous = ROLE.get();
+        ROLE.set(role);
+        return previous;
+    }
+    
+    public static void restore(final DataSourceRole previous) {
+        if (previous == null) {
+            ROLE.remove();
+        } else {
+            ROLE.set(previous);
+        }
+    }
+    
+    /**
+     * 現在の役割（指定がない場合はプライマリ）
+     */
+    public static DataSourceRole currentRole() {
+        final DataSourceRole role = ROLE.get();
+        return role != null ? role : DataSourceRole.PRIMARY;
+    }
+    
+    /**
+     * リクエストの開始時に呼び出す（終了時は必ず {@link #clear}）
+     * 
+     * @param pinned read-your-writesトークン等により最初からプライマリに固定するか
+     */
+    public static void beginRequest(final boolean pinned) {
+        PINNED_TO_PRIMARY.set(pinned);
+    }
+    
+    /**
+     * 現在のリクエストの以降の読み込みをプライマリに固定する（read-your-writes）
+     * 
+     * @return 固定した場合true（リクエスト外では何もせずfalse）
+     */
+    public static boolean pinToPrimary() {
+        if (PINNED_TO_PRIMARY.get() == null) {
+            return false;
+        }
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        return true;
+    }
+    
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+    
+    /**
+     * リクエスト終了時に呼び出す
+     */
+    public static void clear() {
+        ROLE.remove();
+        PINNED_TO_PRIMARY.remove();
+    }
+}
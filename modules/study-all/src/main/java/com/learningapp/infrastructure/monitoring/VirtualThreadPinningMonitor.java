@@ -0,0 +1,68 @@
+package com.learningapp.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 仮想スレッドのピン留め（synchronized内のブロッキング等でキャリアスレッドを占有した状態）を計測する
+ * JFRの jdk.VirtualThreadPinned イベントをストリーミングで購読し、Micrometerのメトリクスに記録する
+ * 
+ * jvm.threads.virtual.pinned: ピン留めの回数と時間
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    
+    private final Duration threshold;
+    private final Timer pinnedTimer;
+    private final Counter errorCounter;
+    private RecordingStream stream;
+    
+    public VirtualThreadPinningMonitor(final MeterRegistry meterRegistry, final Duration threshold) {
+        this.threshold = Objects.requireNonNull(threshold, "Threshold must not be null");
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+            .description("Virtual thread pinned to its carrier thread longer than the threshold")
+            .register(meterRegistry);
+        this.errorCounter = Counter.builder("jvm.threads.virtual.pinned.monitor.errors")
+            .description("Pinning events that could not be read")
+            .register(meterRegistry);
+    }
+    
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        
+        final RecordingStream recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, event -> {
+            try {
+                pinnedTimer.record(event.getDuration());
+            } catch (RuntimeException e) {
+                errorCounter.increment();
+            }
+        });
+        recordingStream.startAsync();
+        this.stream = recordingStream;
+    }
+    
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+    
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.learningapp.infrastructure.scheduling;
+
+import com.learningapp.plan.domain.service.StudyPlanAutoCompletionService;
+import com.learningapp.plan.domain.service.StudyPlanAutoCompletionService.AutoCompletionReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 夜間の学習計画自動完了（全目標達成分）
+ * 終了日経過による完了は StudyPlanLifecycleJob が担う
+ * 
+ * cronは全ノードで動くが、処理するのはリースを取れた1ノードだけ（StudyPlanAutoCompletionService）
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.plan.auto-completion", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StudyPlanAutoCompletionJob {
+    
+    private final StudyPlanAutoCompletionService autoCompletionService;
+    
+    @Value("${app.plan.auto-completion.lease-time:5m}")
+    private Duration leaseTime;
+    
+    @Scheduled(cron = "${app.plan.auto-completion.cron:0 30 2 * * *}")
+    public void run() {
+        final long startedAt = System.nanoTime();
+        final AutoCompletionReport report = autoCompletionService.completeGoalAchievedPlans(LocalDate.now(), leaseTime);
+        log.info("Study plan auto-completion {}: scanned={}, completed={}, elapsed={}",
+            report.outcome(), report.scannedPlans(), report.completedPlans(), Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+}
@@ -0,0 +1,63 @@
+package com.learningapp.infrastructure.scheduling;
+
+import com.learningapp.plan.domain.service.StudyPlanLifecycleService;
+import com.learningapp.plan.domain.service.StudyPlanLifecycleService.LifecycleReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 夜間の学習計画ライフサイクル処理（期限切れの完了・期限接近のフラグ）
+ * 起動時にも実行し、前回中断した処理があれば続きから再開する
+ * 
+ * cronは全ノードで動くが、処理するのはリースを取れた1ノードだけ（StudyPlanLifecycleService）
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.plan.lifecycle", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StudyPlanLifecycleJob {
+    
+    private final StudyPlanLifecycleService lifecycleService;
+    private final TaskScheduler taskScheduler;
+    
+    @Value("${app.plan.lifecycle.chunk-size:1000}")
+    private int chunkSize;
+    
+    @Value("${app.plan.lifecycle.lease-time:5m}")
+    private Duration leaseTime;
+    
+    @Scheduled(cron = "${app.plan.lifecycle.cron:0 0 2 * * *}")
+    public void run() {
+        final long startedAt = System.nanoTime();
+        final LifecycleReport report = lifecycleService.run(LocalDate.now(), chunkSize, leaseTime);
+        log.info("Study plan lifecycle {}: asOf={}, resumed={}, scanned={}, completed={}, flagged={}, elapsed={}",
+            report.outcome(), report.asOf(), report.resumed(), report.scannedPlans(), report.completedPlans(),
+            report.flaggedPlans(), Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+    
+    /**
+     * 当日分の処理が中断されたままであれば続きを実行する
+     * 起動完了を待たせないよう、判定と実行はスケジューラのスレッドで行う
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        taskScheduler.schedule(this::resumeIfInterrupted, Instant.now());
+    }
+    
+    private void resumeIfInterrupted() {
+        if (lifecycleService.isInterrupted(LocalDate.now())) {
+            run();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+-- V003__Add_keyset_pagination_indexes.sql
+-- キーセットページング用インデックス
+-- (created_at, id) の行値比較でシークし、ORDER BY + LIMIT をインデックス走査だけで解決する
+
+CREATE INDEX idx_users_created_at_id ON users(created_at, id);
+CREATE INDEX idx_study_plans_created_at_id ON study_plans(created_at, id);
+CREATE INDEX idx_study_goals_created_at_id ON study_goals(created_at, id);
@@ -0,0 +1,13 @@
+-- V004__Add_name_search_indexes.sql
+-- 名前検索用インデックス（PostgreSQL専用）
+-- 部分一致は pg_trgm のGINインデックスで候補を絞り、ILIKE '%x%' の全件走査を避ける
+-- 前方一致（オートコンプリート）は text_pattern_ops のB-treeを範囲走査する
+-- H2のテストプロファイルでは NgramIndex（インメモリのバイグラム索引）が代わりを務める
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_users_name_trgm ON users USING gin (name gin_trgm_ops);
+CREATE INDEX idx_users_name_prefix ON users (lower(name) text_pattern_ops);
+
+CREATE INDEX idx_study_categories_name_trgm ON study_categories USING gin (name gin_trgm_ops);
+CREATE INDEX idx_study_categories_name_prefix ON study_categories (lower(name) text_pattern_ops);
@@ -0,0 +1,79 @@
+-- V005__Add_email_domain_column_and_counts.sql
+-- メールドメインの永続化と、ドメイン別ユーザー数の増分集計
+
+-- 生成列: 書き込み時にDBが計算するため、アプリ側の書き込み経路に依存しない
+ALTER TABLE users
+    ADD COLUMN email_domain VARCHAR(255) GENERATED ALWAYS AS (lower(split_part(email, '@', 2))) STORED;
+
+CREATE INDEX idx_users_email_domain ON users(email_domain);
+
+-- 個人向けメールドメイン（EmailValidator.CONSUMER_EMAIL_DOMAINS と一致させること）
+CREATE TABLE consumer_email_domains (
+    domain VARCHAR(255) PRIMARY KEY
+);
+
+INSERT INTO consumer_email_domains (domain) VALUES
+    ('gmail.com'),
+    ('yahoo.com'),
+    ('hotmail.com'),
+    ('outlook.com');
+
+-- ドメイン別ユーザー数
+-- 人気ドメイン（gmail.com等）の行ロック競合を避けるため、ユーザーIDのハッシュで8行に分散して加算する
+-- 読み取り時は shard を SUM する
+CREATE TABLE user_email_domain_counts (
+    email_domain VARCHAR(255) NOT NULL,
+    shard SMALLINT NOT NULL CHECK (shard >= 0 AND shard < 8),
+    corporate BOOLEAN NOT NULL,
+    user_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (email_domain, shard)
+);
+
+CREATE INDEX idx_user_email_domain_counts_corporate ON user_email_domain_counts(corporate, email_domain);
+
+-- 関数: ドメイン別ユーザー数の加減算
+CREATE OR REPLACE FUNCTION adjust_user_email_domain_count(p_domain VARCHAR, p_user_id UUID, p_delta INTEGER)
+RETURNS VOID AS $$
+BEGIN
+    INSERT INTO user_email_domain_counts (email_domain, shard, corporate, user_count)
+    VALUES (
+        p_domain,
+        (hashtext(p_user_id::text) & 7),
+        NOT EXISTS (SELECT 1 FROM consumer_email_domains WHERE domain = p_domain),
+        p_delta
+    )
+    ON CONFLICT (email_domain, shard)
+    DO UPDATE SET user_count = user_email_domain_counts.user_count + EXCLUDED.user_count;
+END;
+$$ language 'plpgsql';
+
+-- トリガー関数: users の登録・削除・メール変更に追従する
+CREATE OR REPLACE FUNCTION maintain_user_email_domain_counts()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.email_domain IS NOT DISTINCT FROM NEW.email_domain THEN
+        RETURN NULL;
+    END IF;
+    
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM adjust_user_email_domain_count(OLD.email_domain, OLD.id, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM adjust_user_email_domain_count(NEW.email_domain, NEW.id, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER maintain_users_email_domain_counts
+    AFTER INSERT OR DELETE OR UPDATE OF email ON users
+    FOR EACH ROW EXECUTE FUNCTION maintain_user_email_domain_counts();
+
+-- 既存ユーザーの集計（同じシャード割り当てで初期化）
+INSERT INTO user_email_domain_counts (email_domain, shard, corporate, user_count)
+SELECT u.email_domain,
+       (hashtext(u.id::text) & 7),
+       NOT EXISTS (SELECT 1 FROM consumer_email_domains c WHERE c.domain = u.email_domain),
+       count(*)
+  FROM users u
+ GROUP BY u.email_domain, (hashtext(u.id::text) & 7);
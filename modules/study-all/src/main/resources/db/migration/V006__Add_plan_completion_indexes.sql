@@ -0,0 +1,11 @@
+-- V006__Add_plan_completion_indexes.sql
+-- 学習計画の自動完了用インデックス
+
+-- アクティブな計画だけをキーセット順（created_at, id）に走査する
+CREATE INDEX idx_study_plans_active_created_at_id ON study_plans(created_at, id) WHERE status = 'ACTIVE';
+
+-- 計画毎の目標達成判定（GROUP BY study_plan_id + bool_and）をインデックスオンリースキャンで解決する
+-- 先頭列が同じ idx_study_goals_plan_id は不要になるため置き換える
+CREATE INDEX idx_study_goals_plan_id_achievement ON study_goals(study_plan_id)
+    INCLUDE (target_score, target_hours, current_best_score, total_studied_hours);
+DROP INDEX idx_study_goals_plan_id;
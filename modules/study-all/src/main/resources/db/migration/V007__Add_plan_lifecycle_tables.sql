@@ -0,0 +1,22 @@
+-- V007__Add_plan_lifecycle_tables.sql
+-- 学習計画ライフサイクル処理（期限切れの完了・期限接近のフラグ）
+
+-- 期限接近のフラグを立てた基準日（計画毎に1回だけ立てる）
+ALTER TABLE study_plans ADD COLUMN near_deadline_flagged_on DATE;
+
+-- アクティブな計画を終了日順に範囲走査する（終了日が「基準日 + 7日」以前の計画だけを読む）
+CREATE INDEX idx_study_plans_active_end_date_id ON study_plans(end_date, id) WHERE status = 'ACTIVE';
+
+-- 処理の進捗（チャンク毎に更新し、再起動後は最後に処理した (end_date, id) の続きから再開する）
+CREATE TABLE plan_lifecycle_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    as_of_date DATE NOT NULL,
+    last_end_date DATE,
+    last_plan_id UUID,
+    finished BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CHECK ((last_end_date IS NULL) = (last_plan_id IS NULL))
+);
+
+CREATE TRIGGER update_plan_lifecycle_checkpoints_updated_at BEFORE UPDATE ON plan_lifecycle_checkpoints
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
@@ -0,0 +1,36 @@
+-- V008__Add_plan_overlap_and_active_limit_constraints.sql
+-- 学習計画の期間重複・アクティブな計画数の上限をDBで保証する
+-- アプリ側の事前チェックは同時作成（二重送信等）を防げないため、最終的な判定はここで行う
+-- 既存データに違反がある場合は適用前に解消しておくこと
+
+-- uuid の = をGiSTインデックスで扱うため
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- 同じユーザーのアクティブ・一時停止中の計画は期間（開始日・終了日を含む）が重ならない
+ALTER TABLE study_plans ADD CONSTRAINT study_plans_no_overlap
+    EXCLUDE USING gist (user_id WITH =, daterange(start_date, end_date, '[]') WITH &&)
+    WHERE (status IN ('ACTIVE', 'PAUSED'));
+
+-- アクティブな計画は1ユーザー3つまで（StudyPlanDomainService.MAX_ACTIVE_PLANS と揃える）
+-- 行をまたぐ条件は制約で表せないため、ユーザー毎のアドバイザリロックで作成・再開を直列化して数える
+CREATE OR REPLACE FUNCTION enforce_active_study_plan_limit()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.status <> 'ACTIVE' OR (TG_OP = 'UPDATE' AND OLD.status = 'ACTIVE' AND OLD.user_id = NEW.user_id) THEN
+        RETURN NEW;
+    END IF;
+
+    PERFORM pg_advisory_xact_lock(hashtextextended(NEW.user_id::text, 0));
+    IF (SELECT COUNT(*) FROM study_plans
+         WHERE user_id = NEW.user_id AND status = 'ACTIVE' AND id <> NEW.id) >= 3 THEN
+        -- 除外制約の違反と同じく、メッセージに制約名を含める（アプリ側はSQLSTATEと制約名で判別する）
+        RAISE EXCEPTION 'new row for relation "study_plans" violates constraint "study_plans_active_limit"'
+            USING ERRCODE = 'check_violation', CONSTRAINT = 'study_plans_active_limit',
+                  DETAIL = '同時に実行できる学習計画は3つまでです';
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER enforce_study_plans_active_limit BEFORE INSERT OR UPDATE OF status, user_id ON study_plans
+    FOR EACH ROW EXECUTE FUNCTION enforce_active_study_plan_limit();
@@ -0,0 +1,9 @@
+-- V009__Add_plan_lifecycle_lease.sql
+-- ライフサイクル処理のリース（全ノードでcronが動くため、進捗の行を持つ1ノードだけが処理する）
+-- 処理中はチャンク毎に lease_until を延長し、ノードが落ちた場合は期限切れで他ノードが引き継ぐ
+-- 期限の判定はDBの now() で行い、ノード間の時計のずれに左右されない
+
+ALTER TABLE plan_lifecycle_checkpoints ADD COLUMN locked_by VARCHAR(100);
+ALTER TABLE plan_lifecycle_checkpoints ADD COLUMN lease_until TIMESTAMP WITH TIME ZONE;
+ALTER TABLE plan_lifecycle_checkpoints ADD CONSTRAINT plan_lifecycle_checkpoints_lease
+    CHECK ((locked_by IS NULL) = (lease_until IS NULL));
@@ -0,0 +1,55 @@
+-- V010__Add_normalized_name_search.sql
+-- ユーザー名検索の正規化をアプリ側（NgramIndex.normalize: NFKC → 小文字化 → 前後の半角空白除去）と揃え、
+-- トライグラムが作れない1〜2文字のクエリをユニグラム・バイグラムの副表で引けるようにする
+-- normalize() はサーバーエンコーディングがUTF8であること、lower() はLC_CTYPEに従う（かな・漢字は大小がなく影響しない）
+
+-- 検索用の正規化済み名前
+ALTER TABLE users ADD COLUMN name_search TEXT
+    GENERATED ALWAYS AS (btrim(lower(normalize(name, NFKC)))) STORED;
+
+-- 部分一致（3文字以上）・前方一致のインデックスを正規化済みの列に張り替える
+-- 前方一致は "C" 照合順序のB-treeでLIKE 'x%' の範囲走査とコードポイント順の並べ替えを兼ねる
+DROP INDEX idx_users_name_trgm;
+DROP INDEX idx_users_name_prefix;
+CREATE INDEX idx_users_name_search_trgm ON users USING gin (name_search gin_trgm_ops);
+CREATE INDEX idx_users_name_search_prefix ON users ((name_search COLLATE "C"));
+
+-- 正規化済み名前のユニグラム・バイグラム（コードポイント単位、NgramIndex.grams と同じ）
+CREATE OR REPLACE FUNCTION name_grams(text)
+RETURNS SETOF TEXT AS $$
+    SELECT DISTINCT substr($1, i, n)
+      FROM generate_series(1, char_length($1)) AS i,
+           (VALUES (1), (2)) AS g(n)
+     WHERE i + n - 1 <= char_length($1)
+$$ LANGUAGE sql IMMUTABLE STRICT;
+
+-- 1〜2文字のクエリ用の副表（クエリと同じ長さのグラムの完全一致が、そのまま部分一致になる）
+CREATE TABLE user_name_grams (
+    gram TEXT NOT NULL,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    PRIMARY KEY (gram, user_id)
+);
+
+CREATE INDEX idx_user_name_grams_user_id ON user_name_grams(user_id);
+
+CREATE OR REPLACE FUNCTION refresh_user_name_grams()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        IF NEW.name_search IS NOT DISTINCT FROM OLD.name_search THEN
+            RETURN NULL;
+        END IF;
+        DELETE FROM user_name_grams WHERE user_id = OLD.id;
+    END IF;
+    INSERT INTO user_name_grams (gram, user_id)
+    SELECT gram, NEW.id FROM name_grams(NEW.name_search) AS gram;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER refresh_user_name_grams AFTER INSERT OR UPDATE OF name ON users
+    FOR EACH ROW EXECUTE FUNCTION refresh_user_name_grams();
+
+-- 既存ユーザーの副表を作る（名前は平均数文字のため、1ユーザーあたり10行前後）
+INSERT INTO user_name_grams (gram, user_id)
+SELECT gram, u.id FROM users u, name_grams(u.name_search) AS gram;
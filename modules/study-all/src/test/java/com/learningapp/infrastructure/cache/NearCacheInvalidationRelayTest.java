@@ -0,0 +1,87 @@
+package com.learningapp.infrastructure.cache;
+
+import com.learningapp.base.domain.entity.User;
+import com.learningapp.base.domain.factory.UserFactory;
+import com.learningapp.base.domain.repository.UserQueryRepository;
+import com.learningapp.base.domain.validator.EmailValidator;
+import com.learningapp.base.domain.validator.NameValidator;
+import com.learningapp.base.infrastructure.cache.CachingUserQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NearCacheInvalidationRelayTest {
+    
+    private final UserFactory userFactory = new UserFactory(new NameValidator(), new EmailValidator());
+    private final UserQueryRepository source = mock(UserQueryRepository.class);
+    private final LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+    private final List<CacheInvalidationMessage> delivered = new ArrayList<>();
+    
+    private CachingUserQueryRepository nodeA;
+    private CachingUserQueryRepository nodeB;
+    
+    @BeforeEach
+    void setUp() {
+        bus.subscribe(delivered::add);
+        nodeA = node();
+        nodeB = node();
+    }
+    
+    @Test
+    void writeOnOneNodeEvictsPeerEntries() {
+        final User taro = userFactory.createNewUser("山田太郎", "taro@example.com");
+        final User renamed = taro.updateProfile("山田太郎", "yamada@example.com");
+        when(source.findById(taro.getId())).thenReturn(Optional.of(taro), Optional.of(taro), Optional.of(renamed));
+        nodeA.findById(taro.getId());
+        nodeB.findById(taro.getId());
+        
+        nodeA.invalidate(renamed.getId(), renamed.getEmail());
+        
+        assertThat(nodeB.findById(taro.getId())).contains(renamed);
+        verify(source, times(3)).findById(taro.getId());
+        assertThat(delivered).singleElement()
+            .satisfies(message -> assertThat(message.cacheName()).isEqualTo(CachingUserQueryRepository.CACHE_NAME));
+    }
+    
+    @Test
+    void invalidateAllClearsPeers() {
+        final User taro = userFactory.createNewUser("山田太郎", "taro@example.com");
+        when(source.findByEmail("nobody@example.com")).thenReturn(Optional.empty(), Optional.of(taro));
+        nodeB.findByEmail("nobody@example.com");
+        
+        nodeA.invalidateAll();
+        
+        assertThat(nodeB.findByEmail("nobody@example.com")).contains(taro);
+        assertThat(delivered).singleElement().satisfies(message -> assertThat(message.isClear()).isTrue());
+    }
+    
+    @Test
+    void ignoresMessagesForOtherCaches() {
+        final User taro = userFactory.createNewUser("山田太郎", "taro@example.com");
+        when(source.findById(taro.getId())).thenReturn(Optional.of(taro));
+        nodeA.findById(taro.getId());
+        
+        bus.publish(CacheInvalidationMessage.clear("other-node", "users"));
+        
+        assertThat(nodeA.findById(taro.getId())).contains(taro);
+        verify(source, times(1)).findById(taro.getId());
+    }
+    
+    private CachingUserQueryRepository node() {
+        final NearCacheInvalidationRelay relay =
+            new NearCacheInvalidationRelay(CachingUserQueryRepository.CACHE_NAME, bus);
+        final CachingUserQueryRepository repository = new CachingUserQueryRepository(source, relay);
+        relay.bind(repository::onPeerInvalidation);
+        bus.subscribe(relay::onInvalidation);
+        return repository;
+    }
+}
@@ -0,0 +1,188 @@
+package com.learningapp.infrastructure.cache;
+
+import com.learningapp.base.domain.entity.StudyCategory;
+import com.learningapp.base.domain.entity.User;
+import com.learningapp.base.domain.enums.StudyPlanStatus;
+import com.learningapp.base.domain.factory.StudyCategoryFactory;
+import com.learningapp.base.domain.factory.UserFactory;
+import com.learningapp.base.domain.validator.EmailValidator;
+import com.learningapp.base.domain.validator.NameValidator;
+import com.learningapp.base.domain.validator.StudyCategoryValidator;
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.config.QueryCacheProperties;
+import com.learningapp.plan.domain.entity.StudyPlan;
+import com.learningapp.plan.domain.factory.StudyPlanFactory;
+import com.learningapp.plan.domain.validator.StudyPlanValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TwoTierCacheTest {
+    
+    private static final String CACHE_NAME = "users";
+    private static final RedisSerializer<Object> VALUE_SERIALIZER =
+        RedisSerializer.java(TwoTierCacheTest.class.getClassLoader());
+    
+    private final UserFactory userFactory = new UserFactory(new NameValidator(), new EmailValidator());
+    
+    /** 配信された無効化（全ノード分） */
+    private final List<CacheInvalidationMessage> published = new ArrayList<>();
+    
+    private TwoTierCacheManager managerA;
+    private TwoTierCache nodeA;
+    private TwoTierCache nodeB;
+    
+    @BeforeEach
+    void setUp() {
+        final ConcurrentMapCacheManager redis = new RedisStandInCacheManager();
+        final LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+        bus.subscribe(published::add);
+        
+        final QueryCacheProperties.Local local = new QueryCacheProperties.Local(100, Duration.ofMinutes(1));
+        managerA = new TwoTierCacheManager(redis, local, bus);
+        final TwoTierCacheManager managerB = new TwoTierCacheManager(redis, local, bus);
+        bus.subscribe(managerA::onInvalidation);
+        bus.subscribe(managerB::onInvalidation);
+        
+        nodeA = (TwoTierCache) managerA.getCache(CACHE_NAME);
+        nodeB = (TwoTierCache) managerB.getCache(CACHE_NAME);
+    }
+    
+    @Test
+    void put_fillsBothTiersWithoutPublishingInvalidation() {
+        nodeA.put("k", "v1");
+        
+        assertThat(published).isEmpty();
+        assertThat(nodeA.get("k", String.class)).isEqualTo("v1");
+        assertThat(nodeB.get("k", String.class)).isEqualTo("v1");
+    }
+    
+    @Test
+    void evict_dropsEntryFromOtherNodesL1() {
+        nodeA.put("k", "v1");
+        assertThat(nodeB.get("k", String.class)).isEqualTo("v1");
+        
+        nodeA.evict("k");
+        
+        assertThat(published).containsExactly(CacheInvalidationMessage.evict(managerA.getNodeId(), CACHE_NAME, "k"));
+        assertThat(nodeB.get("k")).isNull();
+        assertThat(nodeA.get("k")).isNull();
+    }
+    
+    @Test
+    void clear_dropsAllEntriesFromOtherNodesL1() {
+        nodeA.put("k1", "v1");
+        nodeA.put("k2", "v2");
+        nodeB.get("k1");
+        nodeB.get("k2");
+        
+        nodeA.clear();
+        
+        assertThat(published).singleElement().satisfies(message -> assertThat(message.isClear()).isTrue());
+        assertThat(nodeB.get("k1")).isNull();
+        assertThat(nodeB.get("k2")).isNull();
+    }
+    
+    @Test
+    void getWithLoader_loadsOnceAndSharesResultThroughL2() {
+        final AtomicInteger loads = new AtomicInteger();
+        
+        assertThat(nodeA.get("k", () -> "loaded-" + loads.incrementAndGet())).isEqualTo("loaded-1");
+        assertThat(nodeA.get("k", () -> "loaded-" + loads.incrementAndGet())).isEqualTo("loaded-1");
+        assertThat(nodeB.get("k", () -> "loaded-" + loads.incrementAndGet())).isEqualTo("loaded-1");
+        assertThat(loads).hasValue(1);
+        assertThat(published).isEmpty();
+    }
+    
+    @Test
+    void nullValuesAreCachedAcrossNodes() {
+        nodeA.put("missing", null);
+        
+        final Cache.ValueWrapper wrapper = nodeB.get("missing");
+        assertThat(wrapper).isNotNull();
+        assertThat(wrapper.get()).isNull();
+    }
+    
+    @Test
+    void domainEntitiesRoundTripThroughL2() {
+        final User user = userFactory.hydrateUser(
+            userFactory.createNewUser("山田太郎", "taro@example.com").getId(), "山田太郎", "taro@example.com",
+            LocalDateTime.of(2024, 4, 1, 9, 0), LocalDateTime.of(2024, 5, 1, 9, 0));
+        final StudyCategory category = new StudyCategoryFactory(new StudyCategoryValidator())
+            .createNewCategory("午後II", "論述式", 4);
+        final StudyPlan plan = new StudyPlanFactory(new StudyPlanValidator()).hydrateStudyPlan(
+            StudyPlanId.generate(), user.getId(), "DBスペシャリスト対策", "秋期試験",
+            LocalDate.of(2024, 4, 1), LocalDate.of(2024, 10, 13), StudyPlanStatus.ACTIVE, 2,
+            LocalDateTime.of(2024, 4, 1, 9, 0), LocalDateTime.of(2024, 4, 2, 9, 0));
+        
+        nodeA.put("user", user);
+        nodeA.put("category", category);
+        nodeA.put("plan", plan);
+        
+        final User cachedUser = nodeB.get("user", User.class);
+        assertThat(cachedUser).isNotSameAs(user);
+        assertThat(cachedUser.getId()).isEqualTo(user.getId());
+        assertThat(cachedUser.getName()).isEqualTo("山田太郎");
+        assertThat(cachedUser.getEmail()).isEqualTo("taro@example.com");
+        assertThat(cachedUser.getCreatedAt()).isEqualTo(user.getCreatedAt());
+        assertThat(cachedUser.getUpdatedAt()).isEqualTo(user.getUpdatedAt());
+        
+        final StudyCategory cachedCategory = nodeB.get("category", StudyCategory.class);
+        assertThat(cachedCategory.getId()).isEqualTo(category.getId());
+        assertThat(cachedCategory.getName()).isEqualTo("午後II");
+        assertThat(cachedCategory.getDisplayOrder()).isEqualTo(4);
+        
+        final StudyPlan cachedPlan = nodeB.get("plan", StudyPlan.class);
+        assertThat(cachedPlan.getId()).isEqualTo(plan.getId());
+        assertThat(cachedPlan.getUserId()).isEqualTo(user.getId());
+        assertThat(cachedPlan.getEndDate()).isEqualTo(LocalDate.of(2024, 10, 13));
+        assertThat(cachedPlan.getStatus()).isEqualTo(StudyPlanStatus.ACTIVE);
+        assertThat(cachedPlan.getId().hashCode()).isEqualTo(plan.getId().hashCode());
+    }
+    
+    @Test
+    void jsonSerializerCannotRestoreDomainEntities() {
+        final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+        final User user = userFactory.createNewUser("山田太郎", "taro@example.com");
+        
+        assertThatThrownBy(() -> json.deserialize(json.serialize(user)))
+            .isInstanceOf(SerializationException.class);
+    }
+    
+    /**
+     * RedisCacheと同じく値をバイト列にシリアライズして保持するL2のスタンドイン
+     */
+    private static final class RedisStandInCacheManager extends ConcurrentMapCacheManager {
+        
+        @Override
+        protected Cache createConcurrentMapCache(final String name) {
+            return new ConcurrentMapCache(name, new ConcurrentHashMap<>(), true) {
+                @Override
+                protected Object toStoreValue(final Object userValue) {
+                    return VALUE_SERIALIZER.serialize(super.toStoreValue(userValue));
+                }
+                
+                @Override
+                protected Object fromStoreValue(final Object storeValue) {
+                    return super.fromStoreValue(VALUE_SERIALIZER.deserialize((byte[]) storeValue));
+                }
+            };
+        }
+    }
+}
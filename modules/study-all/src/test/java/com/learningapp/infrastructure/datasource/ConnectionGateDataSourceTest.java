@@ -0,0 +1,156 @@
+package com.learningapp.infrastructure.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectionGateDataSourceTest {
+    
+    private final DataSource target = mock(DataSource.class);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void closeReleasesPermitExactlyOnce() throws SQLException {
+        final ConnectionGateDataSource gate = new ConnectionGateDataSource(target, 2, Duration.ofSeconds(1), 10);
+        
+        final Connection connection = gate.getConnection();
+        assertThat(gate.getAvailablePermits()).isEqualTo(1);
+        
+        connection.close();
+        connection.close();
+        
+        assertThat(gate.getAvailablePermits()).isEqualTo(2);
+    }
+    
+    @Test
+    void closeReleasesPermitEvenWhenTargetCloseFails() throws SQLException {
+        final Connection failing = mock(Connection.class);
+        doThrow(new SQLException("broken pipe")).when(failing).close();
+        when(target.getConnection()).thenReturn(failing);
+        final ConnectionGateDataSource gate = new ConnectionGateDataSource(target, 1, Duration.ofSeconds(1), 10);
+        
+        final Connection connection = gate.getConnection();
+        
+        assertThatThrownBy(connection::close).isInstanceOf(SQLException.class).hasMessage("broken pipe");
+        assertThat(gate.getAvailablePermits()).isEqualTo(1);
+        verify(failing, times(1)).close();
+    }
+    
+    @Test
+    void permitIsReturnedWhenTargetFailsToConnect() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("connection refused"));
+        final ConnectionGateDataSource gate = new ConnectionGateDataSource(target, 1, Duration.ofSeconds(1), 10);
+        
+        assertThatThrownBy(gate::getConnection).hasMessage("connection refused");
+        assertThat(gate.getAvailablePermits()).isEqualTo(1);
+    }
+    
+    @Test
+    void rejectsWithoutWaitingOnceMaxWaitingIsExceeded() throws Exception {
+        final ConnectionGateDataSource gate = new ConnectionGateDataSource(target, 1, Duration.ofSeconds(5), 1);
+        final Connection held = gate.getConnection();
+        final Future<Connection> waiter = executor.submit(() -> gate.getConnection());
+        waitUntil(() -> gate.getWaitingCount() == 1);
+        
+        final long startedAt = System.nanoTime();
+        assertThatThrownBy(gate::getConnection)
+            .isInstanceOf(SQLTransientConnectionException.class)
+            .hasMessageContaining("saturated");
+        
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        assertThat(gate.getRejectedCount()).isEqualTo(1);
+        assertThat(gate.getWaitingCount()).isEqualTo(1);
+        
+        held.close();
+        waiter.get(5, TimeUnit.SECONDS).close();
+        assertThat(gate.getAvailablePermits()).isEqualTo(1);
+        assertThat(gate.getWaitingCount()).isZero();
+    }
+    
+    @Test
+    void zeroMaxWaitingRejectsAsSoonAsPermitsRunOut() throws SQLException {
+        final ConnectionGateDataSource gate = new ConnectionGateDataSource(target, 1, Duration.ofSeconds(5), 0);
+        gate.getConnection();
+        
+        assertThatThrownBy(gate::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(gate.getRejectedCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void timesOutWhenNoPermitBecomesAvailable() throws SQLException {
+        final ConnectionGateDataSource gate = new ConnectionGateDataSource(target, 1, Duration.ofMillis(100), 10);
+        gate.getConnection();
+        
+        final long startedAt = System.nanoTime();
+        assertThatThrownBy(gate::getConnection)
+            .isInstanceOf(SQLTransientConnectionException.class)
+            .hasMessageContaining("timed out after 100ms");
+        
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+        assertThat(gate.getTimedOutCount()).isEqualTo(1);
+        assertThat(gate.getWaitingCount()).isZero();
+        assertThat(gate.getAvailablePermits()).isZero();
+    }
+    
+    @Test
+    void fastPathDoesNotOvertakeQueuedWaiter() throws Exception {
+        final ConnectionGateDataSource gate = new ConnectionGateDataSource(target, 1, Duration.ofMillis(200), 1);
+        final Connection held = gate.getConnection();
+        final Future<Connection> queued = executor.submit(() -> gate.getConnection());
+        waitUntil(gate::hasQueuedAcquirers);
+        
+        // 返却直後、待機中の要求が起きる前に割り込もうとしても許可は取れない
+        held.close();
+        assertThatThrownBy(gate::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(gate.getAvailablePermits()).isZero();
+    }
+    
+    @Test
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new ConnectionGateDataSource(target, 0, Duration.ofSeconds(1), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConnectionGateDataSource(target, 1, Duration.ofSeconds(1), -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5s");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.learningapp.infrastructure.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * プライマリ・レプリカを2台のH2で再現し、Repositoryの種類とread-your-writesによる振り分けを確認する
+ */
+class ReplicaRoutingTest {
+    
+    private static final String REPLICA_KEY = "replica-0";
+    
+    private NodeQueryRepository queries;
+    private NodeCommandRepository commands;
+    
+    @BeforeEach
+    void setUp() {
+        final DataSource primary = h2("primary");
+        final DataSource replica = h2("replica");
+        final ReplicationLagMonitor lagMonitor =
+            new ReplicationLagMonitor(Map.of(REPLICA_KEY, replica), Duration.ofSeconds(1), "SELECT 0");
+        lagMonitor.checkLag();
+        
+        final ReplicaRoutingDataSource routing =
+            new ReplicaRoutingDataSource(primary, Map.of(REPLICA_KEY, replica), lagMonitor);
+        routing.afterPropertiesSet();
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(new LazyConnectionDataSourceProxy(routing));
+        
+        final RepositoryRoutingAspect aspect = new RepositoryRoutingAspect(Duration.ofSeconds(5));
+        queries = proxy(new JdbcNodeQueryRepository(jdbcTemplate), aspect);
+        commands = proxy(new JdbcNodeCommandRepository(jdbcTemplate), aspect);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        RoutingContext.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+    
+    @Test
+    void queryRepositoryReadsFromReplica() {
+        assertThat(queries.currentNode()).isEqualTo("replica");
+    }
+    
+    @Test
+    void commandRepositoryUsesPrimary() {
+        assertThat(commands.write()).isEqualTo("primary");
+    }
+    
+    @Test
+    void replicaBeyondMaxLagFallsBackToPrimary() {
+        final DataSource primary = h2("primary");
+        final DataSource replica = h2("replica");
+        final ReplicationLagMonitor lagMonitor =
+            new ReplicationLagMonitor(Map.of(REPLICA_KEY, replica), Duration.ofSeconds(1), "SELECT 5");
+        lagMonitor.checkLag();
+        final ReplicaRoutingDataSource routing =
+            new ReplicaRoutingDataSource(primary, Map.of(REPLICA_KEY, replica), lagMonitor);
+        routing.afterPropertiesSet();
+        final NodeQueryRepository lagging = proxy(
+            new JdbcNodeQueryRepository(new JdbcTemplate(new LazyConnectionDataSourceProxy(routing))),
+            new RepositoryRoutingAspect(Duration.ofSeconds(5)));
+        
+        assertThat(lagging.currentNode()).isEqualTo("primary");
+    }
+    
+    @Test
+    void writeOutsideRequestDoesNotPinThread() {
+        // @Scheduled・@Async等、リクエストを経由しないスレッドでの書き込み
+        commands.write();
+        
+        assertThat(RoutingContext.isPinnedToPrimary()).isFalse();
+        assertThat(queries.currentNode()).isEqualTo("replica");
+    }
+    
+    @Test
+    void writeInsideRequestPinsReadsUntilRequestEnds() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final AtomicReference<String> beforeWrite = new AtomicReference<>();
+        final AtomicReference<String> afterWrite = new AtomicReference<>();
+        
+        new ReadYourWritesFilter().doFilter(request, response, (req, res) -> {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+            beforeWrite.set(queries.currentNode());
+            commands.write();
+            afterWrite.set(queries.currentNode());
+        });
+        
+        assertThat(beforeWrite).hasValue("replica");
+        assertThat(afterWrite).hasValue("primary");
+        assertThat(response.getCookie(ReadYourWritesToken.COOKIE_NAME)).isNotNull();
+        
+        // 同じスレッドの次の処理には持ち越さない
+        RequestContextHolder.resetRequestAttributes();
+        assertThat(queries.currentNode()).isEqualTo("replica");
+    }
+    
+    @Test
+    void activeTokenPinsReadsOfFollowingRequest() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesToken.COOKIE_NAME,
+            Long.toString(System.currentTimeMillis() + 60_000)));
+        final AtomicReference<String> node = new AtomicReference<>();
+        
+        new ReadYourWritesFilter().doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> node.set(queries.currentNode()));
+        
+        assertThat(node).hasValue("primary");
+        assertThat(queries.currentNode()).isEqualTo("replica");
+    }
+    
+    private static DataSource h2(final String node) {
+        final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + node + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", node);
+        return dataSource;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final T target, final RepositoryRoutingAspect aspect) {
+        final AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+}
+
+interface NodeQueryRepository {
+    
+    String currentNode();
+}
+
+interface NodeCommandRepository {
+    
+    /**
+     * 書き込みを行い、書き込んだノードを返す
+     */
+    String write();
+}
+
+class JdbcNodeQueryRepository implements NodeQueryRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    JdbcNodeQueryRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+}
+
+class JdbcNodeCommandRepository implements NodeCommandRepository {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    JdbcNodeCommandRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public String write() {
+        jdbcTemplate.update("UPDATE node SET name = name");
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+}
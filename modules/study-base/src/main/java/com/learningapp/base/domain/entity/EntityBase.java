@@ -2,6 +2,7 @@ package com.learningapp.base.domain.entity;
 
 import com.learningapp.base.domain.valueobject.Identity;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -9,8 +10,13 @@ import java.util.Objects;
  * エンティティの基本実装
  * Effective Java Item 17: 可変性を最小限に抑える
  * Lombok アノテーション除去：手動実装でより明示的に
+ * 
+ * エンティティ・識別子はQuery側キャッシュのL2（Redis）にJDKシリアライズで保存するため Serializable とする
+ * （final フィールドとファクトリ経由の生成のため、Jacksonではコンストラクタなしに復元できない）
  */
-public final class EntityBase<T extends Identity> {
+public final class EntityBase<T extends Identity> implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     private final T id;
     private final LocalDateTime createdAt;
@@ -23,6 +29,16 @@ public final class EntityBase<T extends Identity> {
         this.updatedAt = now;
     }
     
+    /**
+     * 永続化済みのタイムスタンプで復元
+     * システム時計を参照しない
+     */
+    public EntityBase(final T id, final LocalDateTime createdAt, final LocalDateTime updatedAt) {
+        this.id = Objects.requireNonNull(id, "ID must not be null");
+        this.createdAt = Objects.requireNonNull(createdAt, "CreatedAt must not be null");
+        this.updatedAt = updatedAt != null ? updatedAt : createdAt;
+    }
+    
     public T getId() {
         return id;
     }
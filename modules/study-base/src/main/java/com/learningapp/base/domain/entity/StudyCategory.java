@@ -3,6 +3,7 @@ package com.learningapp.base.domain.entity;
 import com.learningapp.base.domain.valueobject.StudyCategoryId;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -13,30 +14,48 @@ import java.util.Objects;
  * staticメソッドを完全削除、StudyCategoryValidatorに委譲
  */
 @Getter
-public final class StudyCategory implements EntityMarker<StudyCategoryId> {
+public final class StudyCategory implements EntityMarker<StudyCategoryId>, Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     private final EntityBase<StudyCategoryId> entityBase;
     private final String name;
     private final String description;
     private final int displayOrder;
+    private final boolean examCategory;
+    private final boolean practicalCategory;
     
     // Package-private：Factoryからのみアクセス可能
     // バリデーションはFactoryで実施済み
     StudyCategory(final StudyCategoryId id, final String name, final String description, final int displayOrder) {
-        this.entityBase = new EntityBase<>(id);
+        this(new EntityBase<>(id), name, description, displayOrder);
+    }
+    
+    // Package-private：永続化層からの復元用（永続化済みのタイムスタンプを引き継ぐ）
+    StudyCategory(final StudyCategoryId id, final String name, final String description, final int displayOrder,
+                  final LocalDateTime createdAt, final LocalDateTime updatedAt) {
+        this(new EntityBase<>(id, createdAt, updatedAt), name, description, displayOrder);
+    }
+    
+    private StudyCategory(final EntityBase<StudyCategoryId> entityBase, final String name,
+                          final String description, final int displayOrder) {
+        this.entityBase = entityBase;
         this.name = Objects.requireNonNull(name, "Name must not be null");
         this.description = description != null ? description.trim() : "";
         this.displayOrder = Math.max(0, displayOrder);
+        // 分類は名前から決まるため生成時に一度だけ判定する
+        this.examCategory = this.name.contains("午前") || this.name.contains("午後");
+        this.practicalCategory = this.name.contains("実践") || this.name.contains("SQL") || this.name.contains("設計");
     }
     
     /**
      * カテゴリ情報更新（新しいインスタンスを返す - 不変性）
      * バリデーションは呼び出し側（Application Service）で実施
+     * 作成日時は引き継ぎ、更新日時のみ現在時刻にする
      */
     public StudyCategory updateCategory(final String newName, final String newDescription, final int newDisplayOrder) {
-        final StudyCategory updatedCategory = new StudyCategory(this.getId(), newName, newDescription, newDisplayOrder);
-        updatedCategory.entityBase.updateTimestamp();
-        return updatedCategory;
+        return new StudyCategory(this.getId(), newName, newDescription, newDisplayOrder,
+                                 this.getCreatedAt(), LocalDateTime.now());
     }
     
     // EntityMarkerの実装
@@ -59,14 +78,14 @@ public final class StudyCategory implements EntityMarker<StudyCategoryId> {
      * 業務ロジック: 試験関連カテゴリかどうか
      */
     public boolean isExamCategory() {
-        return name.contains("午前") || name.contains("午後");
+        return examCategory;
     }
     
     /**
      * 業務ロジック: 実技系カテゴリかどうか
      */
     public boolean isPracticalCategory() {
-        return name.contains("実践") || name.contains("SQL") || name.contains("設計");
+        return practicalCategory;
     }
     
     /**
@@ -3,6 +3,7 @@ package com.learningapp.base.domain.entity;
 import com.learningapp.base.domain.valueobject.UserId;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Optional;
@@ -11,7 +12,9 @@ import java.util.Optional;
  * ユーザーエンティティ
  */
 @Getter
-public final class User implements EntityMarker<UserId> {
+public final class User implements EntityMarker<UserId>, Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     private final EntityBase<UserId> entityBase;
     private final String name;
@@ -20,7 +23,17 @@ public final class User implements EntityMarker<UserId> {
     // Package-private：Factoryからのみアクセス可能
     // バリデーションはFactoryで実施済み
     User(final UserId id, final String name, final String email) {
-        this.entityBase = new EntityBase<>(id);
+        this(new EntityBase<>(id), name, email);
+    }
+    
+    // Package-private：永続化層からの復元用（永続化済みのタイムスタンプを引き継ぐ）
+    User(final UserId id, final String name, final String email,
+         final LocalDateTime createdAt, final LocalDateTime updatedAt) {
+        this(new EntityBase<>(id, createdAt, updatedAt), name, email);
+    }
+    
+    private User(final EntityBase<UserId> entityBase, final String name, final String email) {
+        this.entityBase = entityBase;
         this.name = Objects.requireNonNull(name, "Name must not be null");
         this.email = Objects.requireNonNull(email, "Email must not be null");
     }
@@ -28,11 +41,10 @@ public final class User implements EntityMarker<UserId> {
     /**
      * プロフィール更新（新しいインスタンスを返す - 不変性）
      * バリデーションは呼び出し側（Application Service）で実施
+     * 作成日時は引き継ぎ、更新日時のみ現在時刻にする
      */
     public User updateProfile(final String newName, final String newEmail) {
-        final User updatedUser = new User(this.getId(), newName, newEmail);
-        updatedUser.entityBase.updateTimestamp();
-        return updatedUser;
+        return new User(this.getId(), newName, newEmail, this.getCreatedAt(), LocalDateTime.now());
     }
     
     // EntityMarkerの実装
@@ -1,7 +1,10 @@
 package com.learningapp.base.domain.enums;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 学習計画のステータス
@@ -13,6 +16,12 @@ public enum StudyPlanStatus {
     PAUSED("PAUSED", "一時停止"),
     CANCELLED("CANCELLED", "キャンセル");
     
+    /**
+     * コード→Enumの事前計算済みルックアップテーブル
+     */
+    private static final Map<String, StudyPlanStatus> BY_CODE = Arrays.stream(values())
+        .collect(Collectors.toUnmodifiableMap(StudyPlanStatus::getCode, Function.identity()));
+    
     private final String code;
     private final String displayName;
     
@@ -36,17 +45,18 @@ public enum StudyPlanStatus {
     public static Optional<StudyPlanStatus> fromCodeOptional(final String code) {
         if (code == null) return Optional.empty();
         
-        return Arrays.stream(values())
-            .filter(status -> status.code.equals(code))
-            .findFirst();
+        return Optional.ofNullable(BY_CODE.get(code));
     }
     
     /**
      * コードからEnumを取得（例外あり）
      */
     public static StudyPlanStatus fromCode(final String code) {
-        return fromCodeOptional(code)
-            .orElseThrow(() -> new IllegalArgumentException("Unknown StudyPlanStatus code: " + code));
+        final StudyPlanStatus status = code != null ? BY_CODE.get(code) : null;
+        if (status == null) {
+            throw new IllegalArgumentException("Unknown StudyPlanStatus code: " + code);
+        }
+        return status;
     }
     
     /**
@@ -1,7 +1,10 @@
 package com.learningapp.base.domain.enums;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 学習セッションの種別
@@ -13,6 +16,12 @@ public enum StudySessionType {
     EXAM("EXAM", "模擬試験"),
     REVIEW("REVIEW", "復習");
     
+    /**
+     * コード→Enumの事前計算済みルックアップテーブル
+     */
+    private static final Map<String, StudySessionType> BY_CODE = Arrays.stream(values())
+        .collect(Collectors.toUnmodifiableMap(StudySessionType::getCode, Function.identity()));
+    
     private final String code;
     private final String displayName;
     
@@ -36,17 +45,18 @@ public enum StudySessionType {
     public static Optional<StudySessionType> fromCodeOptional(final String code) {
         if (code == null) return Optional.empty();
         
-        return Arrays.stream(values())
-            .filter(type -> type.code.equals(code))
-            .findFirst();
+        return Optional.ofNullable(BY_CODE.get(code));
     }
     
     /**
      * コードからEnumを取得（例外あり）
      */
     public static StudySessionType fromCode(final String code) {
-        return fromCodeOptional(code)
-            .orElseThrow(() -> new IllegalArgumentException("Unknown StudySessionType code: " + code));
+        final StudySessionType type = code != null ? BY_CODE.get(code) : null;
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown StudySessionType code: " + code);
+        }
+        return type;
     }
     
     /**
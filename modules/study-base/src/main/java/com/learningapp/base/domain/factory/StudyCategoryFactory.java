@@ -6,6 +6,7 @@ import com.learningapp.base.domain.valueobject.StudyCategoryId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
@@ -31,6 +32,7 @@ public class StudyCategoryFactory {
     
     /**
      * 既存カテゴリ復元（永続化層から）
+     * 値を再検証する。DBから読み込んだ行には hydrateCategory を使用する
      */
     public StudyCategory restoreCategory(final StudyCategoryId id, final String name, 
                                         final String description, final int displayOrder) {
@@ -42,6 +44,18 @@ public class StudyCategoryFactory {
         return new StudyCategory(id, validatedName, description, validatedDisplayOrder);
     }
     
+    /**
+     * 永続化済みカテゴリの高速復元（DBから読み込んだ行専用）
+     * 書き込み時に検証済みのため再検証せず、永続化済みのタイムスタンプを引き継ぐ
+     */
+    public StudyCategory hydrateCategory(final StudyCategoryId id, final String name, final String description,
+                                         final int displayOrder, final LocalDateTime createdAt,
+                                         final LocalDateTime updatedAt) {
+        Objects.requireNonNull(id, "StudyCategoryId must not be null");
+        
+        return new StudyCategory(id, name, description, displayOrder, createdAt, updatedAt);
+    }
+    
     /**
      * デフォルトカテゴリ一括作成
      */
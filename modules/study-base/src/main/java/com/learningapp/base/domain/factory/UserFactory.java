@@ -7,6 +7,7 @@ import com.learningapp.base.domain.valueobject.UserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 /**
@@ -32,6 +33,7 @@ public class UserFactory {
     
     /**
      * 既存ユーザー復元（永続化層から）
+     * 値を再検証する。DBから読み込んだ行には hydrateUser を使用する
      */
     public User restoreUser(final UserId id, final String name, final String email) {
         Objects.requireNonNull(id, "UserId must not be null");
@@ -42,6 +44,18 @@ public class UserFactory {
         return new User(id, validatedName, validatedEmail);
     }
     
+    /**
+     * 永続化済みユーザーの高速復元（DBから読み込んだ行専用）
+     * 書き込み時に検証済みのため再検証せず、永続化済みのタイムスタンプを引き継ぐ
+     * システム時計も参照しない
+     */
+    public User hydrateUser(final UserId id, final String name, final String email,
+                            final LocalDateTime createdAt, final LocalDateTime updatedAt) {
+        Objects.requireNonNull(id, "UserId must not be null");
+        
+        return new User(id, name, email, createdAt, updatedAt);
+    }
+    
     /**
      * テスト用ユーザー作成
      */
@@ -0,0 +1,119 @@
+package com.learningapp.base.domain.repository;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 一括書き込みの行単位の結果
+ * JDBCバッチ（MyBatis BATCH Executor）の更新件数を入力順の行結果に対応付ける
+ */
+public record BatchWriteResult(
+    List<RowResult> rows
+) {
+    
+    /**
+     * 既定のバッチサイズ
+     * 実装は {@link CqrsBatchSettings#writeBatchSize()}（app.cqrs.command.batch-size）を渡す
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    
+    /**
+     * 先行するチャンクの失敗により書き込まなかった行のエラーメッセージ
+     */
+    public static final String NOT_ATTEMPTED_MESSAGE = "先行するチャンクの失敗により書き込みませんでした";
+    
+    public BatchWriteResult {
+        rows = List.copyOf(rows);
+    }
+    
+    /**
+     * 入力をバッチサイズ毎に分割して書き込み、行単位の結果を集約する
+     * 
+     * チャンクが例外で失敗した場合、そのチャンクの全行を失敗として記録し、後続チャンクは実行しない
+     * （PostgreSQLでは同じトランザクション内の後続の文が全て "current transaction is aborted" で失敗するため）。
+     * 未実行の行は {@link #NOT_ATTEMPTED_MESSAGE} 付きの失敗として記録する。
+     * 失敗後のロールバックは呼び出し側のトランザクションに任せる
+     * 
+     * @param entities 書き込み対象（入力順が行番号になる）
+     * @param batchSize 1回のバッチ実行あたりの行数
+     * @param chunkWriter 1チャンク分を1回のバッチで書き込み、行毎の更新件数を返す関数
+     */
+    public static <E> BatchWriteResult writeInChunks(final List<E> entities, final int batchSize,
+                                                     final Function<List<E>, int[]> chunkWriter) {
+        Objects.requireNonNull(entities, "Entities must not be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("バッチサイズは1以上で指定してください");
+        }
+        
+        final List<RowResult> rows = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += batchSize) {
+            final List<E> chunk = entities.subList(from, Math.min(from + batchSize, entities.size()));
+            try {
+                rows.addAll(fromUpdateCounts(from, chunkWriter.apply(chunk)).rows());
+            } catch (RuntimeException e) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    rows.add(RowResult.failed(from + i, e.getMessage()));
+                }
+                for (int i = from + chunk.size(); i < entities.size(); i++) {
+                    rows.add(RowResult.failed(i, NOT_ATTEMPTED_MESSAGE));
+                }
+                break;
+            }
+        }
+        return new BatchWriteResult(rows);
+    }
+    
+    /**
+     * JDBCの更新件数配列から行結果を生成
+     * SUCCESS_NO_INFO は成功、EXECUTE_FAILED と 0件更新は失敗として扱う
+     */
+    public static BatchWriteResult fromUpdateCounts(final int startIndex, final int[] updateCounts) {
+        final List<RowResult> rows = new ArrayList<>(updateCounts.length);
+        for (int i = 0; i < updateCounts.length; i++) {
+            final int count = updateCounts[i];
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                rows.add(RowResult.succeeded(startIndex + i));
+            } else if (count == Statement.EXECUTE_FAILED) {
+                rows.add(RowResult.failed(startIndex + i, "バッチ実行に失敗しました"));
+            } else {
+                rows.add(RowResult.failed(startIndex + i, "更新対象の行が存在しません"));
+            }
+        }
+        return new BatchWriteResult(rows);
+    }
+    
+    public long successCount() {
+        return rows.stream().filter(RowResult::succeeded).count();
+    }
+    
+    public List<RowResult> failures() {
+        return rows.stream().filter(row -> !row.succeeded()).toList();
+    }
+    
+    public boolean isAllSucceeded() {
+        return rows.stream().allMatch(RowResult::succeeded);
+    }
+    
+    /**
+     * 行単位の結果
+     * 
+     * @param index 入力リスト上の位置
+     */
+    public record RowResult(
+        int index,
+        boolean succeeded,
+        String errorMessage
+    ) {
+        
+        public static RowResult succeeded(final int index) {
+            return new RowResult(index, true, null);
+        }
+        
+        public static RowResult failed(final int index, final String errorMessage) {
+            return new RowResult(index, false, errorMessage);
+        }
+    }
+}
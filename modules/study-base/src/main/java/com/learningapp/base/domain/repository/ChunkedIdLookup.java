@@ -0,0 +1,79 @@
+package com.learningapp.base.domain.repository;
+
+import com.learningapp.base.domain.valueobject.Identity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 複数IDによる一括取得の共通処理
+ * IDをチャンクに分割して1チャンク1クエリ（{@code WHERE id = ANY(?)}）で取得し、
+ * 要求されたIDの順序で結果を並べ直す
+ */
+public final class ChunkedIdLookup {
+    
+    /**
+     * 既定のチャンクサイズ
+     * 実装は {@link CqrsBatchSettings#idChunkSize()}（app.cqrs.query.batch.id-chunk-size）を渡す
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+    
+    private ChunkedIdLookup() {
+    }
+    
+    /**
+     * チャンク単位で一括取得し、要求順に並べて返す
+     * 存在しないIDは結果から除外される
+     * 
+     * @param ids 取得対象のID（重複可）
+     * @param chunkSize 1クエリあたりのID数
+     * @param chunkLoader 1チャンク分を1回のクエリで取得する関数
+     * @param idOf エンティティからIDを取り出す関数
+     */
+    public static <E, I> List<E> findAllInChunks(final List<I> ids, final int chunkSize,
+                                                 final Function<List<I>, List<E>> chunkLoader,
+                                                 final Function<E, I> idOf) {
+        Objects.requireNonNull(ids, "IDs must not be null");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("チャンクサイズは1以上で指定してください");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        final List<I> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        final Map<I, E> found = new HashMap<>(distinctIds.size() * 4 / 3 + 1);
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            final List<I> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            for (final E entity : chunkLoader.apply(chunk)) {
+                found.put(idOf.apply(entity), entity);
+            }
+        }
+        
+        final List<E> ordered = new ArrayList<>(ids.size());
+        for (final I id : ids) {
+            final E entity = found.get(id);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+    
+    /**
+     * {@code = ANY(?)} にバインドするUUID配列へ変換
+     */
+    public static UUID[] toUuidArray(final List<? extends Identity> ids) {
+        final UUID[] uuids = new UUID[ids.size()];
+        for (int i = 0; i < uuids.length; i++) {
+            uuids[i] = ids.get(i).toUuid();
+        }
+        return uuids;
+    }
+}
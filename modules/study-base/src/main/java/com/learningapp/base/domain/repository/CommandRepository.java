@@ -22,10 +22,11 @@ public interface CommandRepository<E, I> {
     
     /**
      * 複数エンティティを一括保存
+     * JDBCバッチ（MyBatis BATCH Executor）でapp.cqrs.command.batch-size行毎に1往復で書き込む
+     * 実装は {@link BatchWriteResult#writeInChunks} に {@link CqrsBatchSettings#writeBatchSize()} を渡して利用し、行単位の結果を返す
+     * チャンクが失敗した時点で以降のチャンクは書き込まない
      */
-    default void saveAll(final List<E> entities) {
-        entities.forEach(this::save);
-    }
+    BatchWriteResult saveAll(List<E> entities);
     
     /**
      * 複数エンティティを一括削除
@@ -0,0 +1,25 @@
+package com.learningapp.base.domain.repository;
+
+/**
+ * Repository実装が使う一括処理のサイズ（study-all の app.cqrs.* から構成し、Beanとして注入する）
+ * 
+ * @param writeBatchSize saveAll の1回のJDBCバッチあたりの行数（app.cqrs.command.batch-size）
+ * @param idChunkSize findAllById の1クエリあたりのID数（app.cqrs.query.batch.id-chunk-size）
+ */
+public record CqrsBatchSettings(
+    int writeBatchSize,
+    int idChunkSize
+) {
+    
+    public static final CqrsBatchSettings DEFAULTS =
+        new CqrsBatchSettings(BatchWriteResult.DEFAULT_BATCH_SIZE, ChunkedIdLookup.DEFAULT_CHUNK_SIZE);
+    
+    public CqrsBatchSettings {
+        if (writeBatchSize <= 0) {
+            throw new IllegalArgumentException("バッチサイズは1以上で指定してください");
+        }
+        if (idChunkSize <= 0) {
+            throw new IllegalArgumentException("チャンクサイズは1以上で指定してください");
+        }
+    }
+}
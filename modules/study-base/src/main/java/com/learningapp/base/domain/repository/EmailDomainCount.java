@@ -0,0 +1,15 @@
+package com.learningapp.base.domain.repository;
+
+/**
+ * メールドメイン別のユーザー数（user_email_domain_counts の集計結果）
+ * 
+ * @param emailDomain メールドメイン（小文字）
+ * @param corporate 企業ドメインかどうか（EmailValidator#isCorporateDomain と同じ区分）
+ * @param userCount ユーザー数
+ */
+public record EmailDomainCount(
+    String emailDomain,
+    boolean corporate,
+    long userCount
+) {
+}
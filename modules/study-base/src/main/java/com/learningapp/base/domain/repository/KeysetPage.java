@@ -0,0 +1,51 @@
+package com.learningapp.base.domain.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * キーセットページングの結果
+ * Effective Java Item 55: Optionalを適切に使用する
+ */
+public record KeysetPage<E>(
+    List<E> content,
+    PageCursor nextCursor
+) {
+    
+    public KeysetPage {
+        content = List.copyOf(content);
+    }
+    
+    /**
+     * limit + 1 件取得した結果からページを組み立てる
+     * 余分な1件が存在する場合のみ次ページのカーソルを設定
+     */
+    public static <E> KeysetPage<E> of(final List<E> fetched, final int limit,
+                                       final Function<E, PageCursor> cursorOf) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("取得件数は1以上で指定してください");
+        }
+        
+        if (fetched.size() <= limit) {
+            return new KeysetPage<>(fetched, null);
+        }
+        
+        final List<E> page = fetched.subList(0, limit);
+        return new KeysetPage<>(page, cursorOf.apply(page.get(limit - 1)));
+    }
+    
+    /**
+     * 次ページが存在するか
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+    
+    /**
+     * 次ページのカーソル
+     */
+    public Optional<PageCursor> next() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
@@ -0,0 +1,97 @@
+package com.learningapp.base.domain.repository;
+
+import com.learningapp.base.domain.valueobject.Identity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * キーセットページング用の不透明カーソル
+ * ソートキー（created_at）とIDの組で「最後に返した行」を表す
+ * Effective Java Item 17: 可変性を最小限に抑える
+ */
+public final class PageCursor {
+    
+    private static final char SEPARATOR = '|';
+    
+    private final LocalDateTime sortKey;
+    private final UUID id;
+    
+    private PageCursor(final LocalDateTime sortKey, final UUID id) {
+        this.sortKey = Objects.requireNonNull(sortKey, "Sort key must not be null");
+        this.id = Objects.requireNonNull(id, "ID must not be null");
+    }
+    
+    /**
+     * 指定行の直後から読むカーソルを生成
+     */
+    public static PageCursor after(final LocalDateTime sortKey, final Identity id) {
+        Objects.requireNonNull(id, "ID must not be null");
+        return new PageCursor(sortKey, id.toUuid());
+    }
+    
+    public static PageCursor after(final LocalDateTime sortKey, final UUID id) {
+        return new PageCursor(sortKey, id);
+    }
+    
+    /**
+     * クライアントから受け取ったトークンを復元
+     */
+    public static PageCursor decode(final String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("カーソルは必須です");
+        }
+        
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex == -1) {
+                throw new IllegalArgumentException("不正なカーソルです");
+            }
+            return new PageCursor(
+                LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                UUID.fromString(decoded.substring(separatorIndex + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("不正なカーソルです", e);
+        }
+    }
+    
+    /**
+     * クライアントへ返す不透明トークンに変換
+     */
+    public String encode() {
+        final String raw = sortKey.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public LocalDateTime getSortKey() {
+        return sortKey;
+    }
+    
+    public UUID getId() {
+        return id;
+    }
+    
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        final PageCursor that = (PageCursor) obj;
+        return sortKey.equals(that.sortKey) && id.equals(that.id);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortKey, id);
+    }
+    
+    @Override
+    public String toString() {
+        return "PageCursor{sortKey=" + sortKey + ", id=" + id + '}';
+    }
+}
@@ -2,6 +2,7 @@ package com.learningapp.base.domain.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Query側Repository基盤インターface
@@ -21,6 +22,13 @@ public interface QueryRepository<E, I> {
      */
     List<E> findAll();
     
+    /**
+     * 全エンティティを逐次取得
+     * サーバーサイドカーソルで default-fetch-size 行ずつ読み込み、テーブル全体をヒープに載せない
+     * 読み取り専用トランザクション内で呼び出し、try-with-resourcesで必ず閉じること
+     */
+    Stream<E> streamAll();
+    
     /**
      * 存在チェック
      */
@@ -33,22 +41,19 @@ public interface QueryRepository<E, I> {
     
     /**
      * 複数IDで一括取得
+     * チャンク毎に1回のクエリ（{@code WHERE id = ANY(?)}）で取得し、要求されたIDの順序で返す
+     * 実装は {@link ChunkedIdLookup#findAllInChunks} に {@link CqrsBatchSettings#idChunkSize()} を渡して利用する
      */
-    default List<E> findAllById(final List<I> ids) {
-        return ids.stream()
-            .map(this::findById)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .toList();
-    }
+    List<E> findAllById(List<I> ids);
     
     /**
-     * ページング対応検索（将来拡張用）
+     * キーセットページング
+     * (created_at, id) の複合キーでシークし、LIMITをSQLへ渡す
+     * 実装は {@code WHERE (created_at, id) > (?, ?) ORDER BY created_at, id LIMIT limit + 1}
+     * で取得し、{@link KeysetPage#of} でページを組み立てる
+     * 
+     * @param after 直前ページのカーソル（nullの場合は先頭ページ）
+     * @param limit 1ページの件数
      */
-    default List<E> findAll(final int offset, final int limit) {
-        return findAll().stream()
-            .skip(offset)
-            .limit(limit)
-            .toList();
-    }
+    KeysetPage<E> findPage(PageCursor after, int limit);
 }
@@ -18,6 +18,11 @@ public interface StudyCategoryQueryRepository {
      */
     Optional<StudyCategory> findById(StudyCategoryId id);
     
+    /**
+     * 複数IDで一括取得（チャンク毎に1クエリ、要求順で返す）
+     */
+    List<StudyCategory> findAllById(List<StudyCategoryId> ids);
+    
     /**
      * 全カテゴリを取得
      */
@@ -40,9 +45,23 @@ public interface StudyCategoryQueryRepository {
     
     /**
      * カテゴリ名で検索
+     * 
+     * @deprecated 件数上限がないため {@link #searchByName} を使用すること
      */
+    @Deprecated
     List<StudyCategory> findByNameContaining(String name);
     
+    /**
+     * カテゴリ名の部分一致検索（件数上限・ランキング付き）
+     * 完全一致 > 前方一致 > 部分一致の順に返す（idx_study_categories_name_trgm）
+     */
+    List<StudyCategory> searchByName(String query, int limit);
+    
+    /**
+     * カテゴリ名の前方一致検索（オートコンプリート用）
+     */
+    List<StudyCategory> findByNamePrefix(String prefix, int limit);
+    
     /**
      * 試験関連カテゴリを取得
      */
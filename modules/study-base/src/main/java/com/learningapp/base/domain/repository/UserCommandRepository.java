@@ -3,6 +3,8 @@ package com.learningapp.base.domain.repository;
 import com.learningapp.base.domain.entity.User;
 import com.learningapp.base.domain.valueobject.UserId;
 
+import java.util.List;
+
 /**
  * User Command Repository
  * Effective Java Item 18: 継承よりもコンポジション
@@ -14,6 +16,12 @@ public interface UserCommandRepository {
      */
     void save(User user);
     
+    /**
+     * 複数ユーザーを一括保存
+     * app.cqrs.command.batch-size行毎に1回のJDBCバッチで書き込み、行単位の結果を返す
+     */
+    BatchWriteResult saveAll(List<User> users);
+    
     /**
      * ユーザーを削除
      */
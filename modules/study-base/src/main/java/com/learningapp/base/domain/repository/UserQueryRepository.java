@@ -3,8 +3,11 @@ package com.learningapp.base.domain.repository;
 import com.learningapp.base.domain.entity.User;
 import com.learningapp.base.domain.valueobject.UserId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * User Query Repository
@@ -18,11 +21,22 @@ public interface UserQueryRepository {
      */
     Optional<User> findById(UserId id);
     
+    /**
+     * 複数IDで一括取得（チャンク毎に1クエリ、要求順で返す）
+     */
+    List<User> findAllById(List<UserId> ids);
+    
     /**
      * 全ユーザーを取得
      */
     List<User> findAll();
     
+    /**
+     * 全ユーザーを逐次取得（サーバーサイドカーソル）
+     * 読み取り専用トランザクション内で呼び出し、try-with-resourcesで必ず閉じること
+     */
+    Stream<User> streamAll();
+    
     /**
      * 存在チェック
      */
@@ -33,18 +47,100 @@ public interface UserQueryRepository {
      */
     long count();
     
+    /**
+     * キーセットページング（created_at, id 順）
+     * 
+     * @param after 直前ページのカーソル（nullの場合は先頭ページ）
+     * @param limit 1ページの件数
+     */
+    KeysetPage<User> findPage(PageCursor after, int limit);
+    
     /**
      * メールアドレスでユーザーを検索
      */
     Optional<User> findByEmail(String email);
     
+    /**
+     * 指定メールアドレスのうち登録済みのものを取得（{@code WHERE email = ANY(?)} の1クエリ）
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+    
     /**
      * 名前でユーザーを部分検索
+     * 
+     * @deprecated 件数上限がなく {@code LIKE '%x%'} の全件走査になるため {@link #searchByName} を使用すること
      */
+    @Deprecated
     List<User> findByNameContaining(String name);
     
+    /**
+     * 名前の部分一致検索（件数上限・ランキング付き）
+     * 完全一致 > 前方一致 > 名前の短い順（同じ長さはコードポイント順）に返す
+     * 
+     * 名前は生成列 users.name_search（V010）、クエリは実装が NgramIndex.normalize で正規化して比べる（:q）。
+     * どちらも NFKC → 小文字化 → 前後の半角空白除去 のため、H2用のインメモリ実装（NgramIndex）と同じ行を同じ順で返す。
+     * % と _ は文字として一致させる（:pattern = LikePatterns.contains(:q)、:prefixPattern = LikePatterns.startsWith(:q)）
+     * 
+     * 3文字以上は pg_trgm のGINインデックス（idx_users_name_search_trgm）で候補を絞る
+     * <pre>
+     * SELECT * FROM users
+     *  WHERE name_search LIKE :pattern ESCAPE '\'
+     *  ORDER BY (name_search = :q) DESC,
+     *           (name_search LIKE :prefixPattern ESCAPE '\') DESC,
+     *           length(name_search), name_search COLLATE "C"
+     *  LIMIT :limit
+     * </pre>
+     * 
+     * 1〜2文字はトライグラムが作れないため、ユニグラム・バイグラムの副表（user_name_grams）の主キーで候補を引く。
+     * グラムとクエリが同じ長さのため、一致したユーザーはそのまま部分一致となる
+     * <pre>
+     * SELECT u.* FROM users u
+     *  WHERE u.id IN (SELECT user_id FROM user_name_grams WHERE gram = :q)
+     *  ORDER BY (u.name_search = :q) DESC,
+     *           (u.name_search LIKE :prefixPattern ESCAPE '\') DESC,
+     *           length(u.name_search), u.name_search COLLATE "C"
+     *  LIMIT :limit
+     * </pre>
+     */
+    List<User> searchByName(String query, int limit);
+    
+    /**
+     * 名前の前方一致検索（オートコンプリート用）
+     * "C" 照合順序のB-treeインデックス（idx_users_name_search_prefix）を範囲走査し、コードポイント順に返す
+     * <pre>
+     * SELECT * FROM users
+     *  WHERE name_search COLLATE "C" LIKE :prefixPattern ESCAPE '\'
+     *  ORDER BY name_search COLLATE "C"
+     *  LIMIT :limit
+     * </pre>
+     */
+    List<User> findByNamePrefix(String prefix, int limit);
+    
     /**
      * 企業ドメインでユーザーを検索
+     * 生成列 email_domain のインデックス（idx_users_email_domain）で {@code WHERE email_domain = lower(:domain)} を引く
      */
     List<User> findByEmailDomain(String domain);
+    
+    /**
+     * ドメインのユーザー数（user_email_domain_counts のシャードを合計、usersは走査しない）
+     */
+    long countByEmailDomain(String domain);
+    
+    /**
+     * ユーザー数の多い順にドメイン別件数を取得（B2Bレポート用）
+     * 
+     * <pre>
+     * SELECT email_domain, corporate, SUM(user_count) AS user_count
+     *   FROM user_email_domain_counts
+     *  WHERE corporate = :corporate
+     *  GROUP BY email_domain, corporate
+     * HAVING SUM(user_count) > 0
+     *  ORDER BY user_count DESC, email_domain
+     *  LIMIT :limit
+     * </pre>
+     * 
+     * @param corporate trueなら企業ドメイン、falseなら個人向けドメイン
+     */
+    List<EmailDomainCount> findEmailDomainCounts(boolean corporate, int limit);
 }
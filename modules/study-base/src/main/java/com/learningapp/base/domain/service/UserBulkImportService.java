@@ -0,0 +1,210 @@
+package com.learningapp.base.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learningapp.base.domain.entity.User;
+import com.learningapp.base.domain.factory.UserFactory;
+import com.learningapp.base.domain.repository.BatchWriteResult;
+import com.learningapp.base.domain.repository.UserCommandRepository;
+import com.learningapp.base.domain.repository.UserQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ユーザー一括取込サービス
+ * CSV/NDJSONを逐次読み込み、チャンク単位で
+ * 並列検証 → メール重複排除（ファイル内・DB） → バッチ登録 を行う
+ */
+@Service
+@RequiredArgsConstructor
+public class UserBulkImportService {
+    
+    private static final int CHUNK_SIZE = 1000;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    
+    private final UserFactory userFactory;
+    private final UserQueryRepository userQueryRepository;
+    private final UserCommandRepository userCommandRepository;
+    
+    /**
+     * CSV（ヘッダー行: name,email）から取込
+     */
+    public UserImportReport importCsv(final Reader reader) {
+        return importLines(reader, true, UserBulkImportService::parseCsvLine);
+    }
+    
+    /**
+     * NDJSON（1行1オブジェクト: {"name": ..., "email": ...}）から取込
+     */
+    public UserImportReport importNdjson(final Reader reader) {
+        return importLines(reader, false, UserBulkImportService::parseJsonLine);
+    }
+    
+    private UserImportReport importLines(final Reader reader, final boolean skipHeader, final LineParser parser) {
+        final ImportState state = new ImportState();
+        final List<RawRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        
+        try (BufferedReader bufferedReader = new BufferedReader(reader)) {
+            long lineNumber = 0;
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                lineNumber++;
+                if (skipHeader && lineNumber == 1) continue;
+                if (line.isBlank()) continue;
+                
+                state.totalRows++;
+                try {
+                    chunk.add(parser.parse(lineNumber, line));
+                } catch (IllegalArgumentException e) {
+                    state.errors.add(new UserImportReport.RowError(lineNumber, null, e.getMessage()));
+                }
+                
+                if (chunk.size() >= CHUNK_SIZE) {
+                    importChunk(chunk, state);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("取込ファイルの読み込みに失敗しました", e);
+        }
+        
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, state);
+        }
+        
+        state.errors.sort(Comparator.comparingLong(UserImportReport.RowError::lineNumber));
+        return new UserImportReport(state.totalRows, state.importedCount, state.errors);
+    }
+    
+    private void importChunk(final List<RawRow> chunk, final ImportState state) {
+        // 1. 並列検証（NameValidator / EmailValidator はステートレス）
+        final List<ValidatedRow> validated = chunk.parallelStream()
+            .map(this::validate)
+            .toList();
+        
+        // 2. ファイル内の重複排除
+        final List<ValidatedRow> candidates = new ArrayList<>(validated.size());
+        for (final ValidatedRow row : validated) {
+            if (row.errorMessage() != null) {
+                state.errors.add(new UserImportReport.RowError(row.lineNumber(), row.rawEmail(), row.errorMessage()));
+            } else if (!state.seenEmails.add(row.user().getEmail())) {
+                state.errors.add(new UserImportReport.RowError(
+                    row.lineNumber(), row.user().getEmail(), "ファイル内でメールアドレスが重複しています"));
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) return;
+        
+        // 3. DBとの重複排除（チャンク毎に1クエリ）
+        final Set<String> existingEmails = userQueryRepository.findExistingEmails(
+            candidates.stream().map(row -> row.user().getEmail()).toList());
+        
+        final List<ValidatedRow> toInsert = new ArrayList<>(candidates.size());
+        for (final ValidatedRow row : candidates) {
+            if (existingEmails.contains(row.user().getEmail())) {
+                state.errors.add(new UserImportReport.RowError(
+                    row.lineNumber(), row.user().getEmail(), "既に登録されているメールアドレスです"));
+            } else {
+                toInsert.add(row);
+            }
+        }
+        if (toInsert.isEmpty()) return;
+        
+        // 4. バッチ登録
+        final BatchWriteResult result = userCommandRepository.saveAll(
+            toInsert.stream().map(ValidatedRow::user).toList());
+        for (final BatchWriteResult.RowResult rowResult : result.rows()) {
+            final ValidatedRow row = toInsert.get(rowResult.index());
+            if (rowResult.succeeded()) {
+                state.importedCount++;
+            } else {
+                state.errors.add(new UserImportReport.RowError(
+                    row.lineNumber(), row.user().getEmail(), rowResult.errorMessage()));
+            }
+        }
+    }
+    
+    private ValidatedRow validate(final RawRow row) {
+        try {
+            return new ValidatedRow(row.lineNumber(), row.email(), userFactory.createNewUser(row.name(), row.email()), null);
+        } catch (IllegalArgumentException e) {
+            return new ValidatedRow(row.lineNumber(), row.email(), null, e.getMessage());
+        }
+    }
+    
+    /**
+     * CSV1行を解析（ダブルクォートで囲まれたフィールドと "" エスケープに対応）
+     */
+    private static RawRow parseCsvLine(final long lineNumber, final String line) {
+        final List<String> fields = new ArrayList<>(2);
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        
+        if (fields.size() < 2) {
+            throw new IllegalArgumentException("name,email の2列が必要です");
+        }
+        return new RawRow(lineNumber, fields.get(0), fields.get(1));
+    }
+    
+    private static RawRow parseJsonLine(final long lineNumber, final String line) {
+        try {
+            final JsonNode node = OBJECT_MAPPER.readTree(line);
+            return new RawRow(lineNumber, node.path("name").asText(null), node.path("email").asText(null));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSONとして解析できません");
+        }
+    }
+    
+    @FunctionalInterface
+    private interface LineParser {
+        RawRow parse(long lineNumber, String line);
+    }
+    
+    private record RawRow(long lineNumber, String name, String email) {}
+    
+    private record ValidatedRow(long lineNumber, String rawEmail, User user, String errorMessage) {}
+    
+    /**
+     * 取込中の集計状態（単一スレッドで更新）
+     */
+    private static final class ImportState {
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<UserImportReport.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedCount;
+    }
+}
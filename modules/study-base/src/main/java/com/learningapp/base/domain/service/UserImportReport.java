@@ -0,0 +1,36 @@
+package com.learningapp.base.domain.service;
+
+import java.util.List;
+
+/**
+ * ユーザー一括取込の結果レポート
+ */
+public record UserImportReport(
+    long totalRows,
+    long importedCount,
+    List<RowError> errors
+) {
+    
+    public UserImportReport {
+        errors = List.copyOf(errors);
+    }
+    
+    public long errorCount() {
+        return errors.size();
+    }
+    
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+    
+    /**
+     * 行単位のエラー
+     * 
+     * @param lineNumber 取込ファイル上の行番号（1始まり）
+     */
+    public record RowError(
+        long lineNumber,
+        String email,
+        String message
+    ) {}
+}
@@ -2,6 +2,8 @@ package com.learningapp.base.domain.validator;
 
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -14,6 +16,13 @@ public class EmailValidator {
     private static final Pattern EMAIL_PATTERN = 
         Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
     
+    /**
+     * 個人向けメールドメイン
+     * DBの consumer_email_domains テーブル（ドメイン別集計の企業/個人区分）と一致させること
+     */
+    public static final Set<String> CONSUMER_EMAIL_DOMAINS =
+        Set.of("gmail.com", "yahoo.com", "hotmail.com", "outlook.com");
+    
     /**
      * メールアドレスを検証し、正規化して返す
      */
@@ -22,7 +31,7 @@ public class EmailValidator {
             throw new IllegalArgumentException("メールアドレスは必須です");
         }
         
-        final String trimmedEmail = email.trim().toLowerCase();
+        final String trimmedEmail = email.trim().toLowerCase(Locale.ROOT);
         
         if (!EMAIL_PATTERN.matcher(trimmedEmail).matches()) {
             throw new IllegalArgumentException("有効なメールアドレスを入力してください");
@@ -43,8 +52,16 @@ public class EmailValidator {
     public boolean isCorporateEmail(final String email) {
         if (email == null) return false;
         
-        final String domain = extractDomain(email);
-        return !isConsumerEmailDomain(domain);
+        return isCorporateDomain(extractDomain(email));
+    }
+    
+    /**
+     * 企業ドメインかどうか判定（ドメイン単位の集計用）
+     */
+    public boolean isCorporateDomain(final String domain) {
+        if (domain == null) return false;
+        
+        return !CONSUMER_EMAIL_DOMAINS.contains(domain.toLowerCase(Locale.ROOT));
     }
     
     /**
@@ -63,11 +80,4 @@ public class EmailValidator {
         // - 使い捨てメールサービスの検出
         // - 企業ポリシーに基づく制限
     }
-    
-    private boolean isConsumerEmailDomain(final String domain) {
-        return domain.equals("gmail.com") || 
-               domain.equals("yahoo.com") || 
-               domain.equals("hotmail.com") ||
-               domain.equals("outlook.com");
-    }
 }
@@ -0,0 +1,22 @@
+package com.learningapp.base.domain.valueobject;
+
+import java.util.UUID;
+
+/**
+ * エンティティ識別子のマーカーインターフェース
+ * 全ての*IdはIdentityValueをコンポジションで保持する
+ */
+public interface Identity {
+    
+    /**
+     * 内部表現（128bit）を取得
+     */
+    IdentityValue getIdentityValue();
+    
+    /**
+     * java.util.UUIDへ変換（文字列化を経由しない）
+     */
+    default UUID toUuid() {
+        return getIdentityValue().toUuid();
+    }
+}
@@ -1,29 +1,64 @@
 package com.learningapp.base.domain.valueobject;
 
-import java.util.Objects;
+import java.io.Serializable;
 import java.util.UUID;
 
 /**
  * 識別子の共通実装
  * Effective Java Item 17: 可変性を最小限に抑える
+ *
+ * UUIDを上位・下位64bitの2つのlongで保持し、文字列表現は要求時のみ生成する。
+ * ハッシュ値は生成時に一度だけ計算してキャッシュする。
  */
-public final class IdentityValue {
+public final class IdentityValue implements Serializable {
     
-    private final String value;
+    private static final long serialVersionUID = 1L;
+    
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    private final int hash;
+    
+    public IdentityValue(final long mostSignificantBits, final long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.hash = computeHash(mostSignificantBits, leastSignificantBits);
+    }
+    
+    public IdentityValue(final UUID uuid) {
+        this(requireUuid(uuid).getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
     
     public IdentityValue(final String value) {
-        if (value == null || value.trim().isEmpty()) {
-            throw new IllegalArgumentException("Identity value must not be null or empty");
-        }
-        this.value = value;
+        this(parse(value));
     }
     
+    /**
+     * 時刻順序付きUUID（UUIDv7形式）で新規生成
+     */
     public IdentityValue() {
-        this.value = UUID.randomUUID().toString();
+        this(TimeOrderedIdGenerator.nextMostSignificantBits(), TimeOrderedIdGenerator.nextLeastSignificantBits());
+    }
+    
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+    
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
+    }
+    
+    /**
+     * java.util.UUIDへ変換（Postgres uuid列へのバインド用）
+     */
+    public UUID toUuid() {
+        return new UUID(mostSignificantBits, leastSignificantBits);
     }
     
+    /**
+     * 文字列表現を取得（呼び出しの都度生成）
+     */
     public String getValue() {
-        return value;
+        return toUuid().toString();
     }
     
     @Override
@@ -31,16 +66,40 @@ public final class IdentityValue {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         final IdentityValue that = (IdentityValue) obj;
-        return Objects.equals(value, that.value);
+        return mostSignificantBits == that.mostSignificantBits
+            && leastSignificantBits == that.leastSignificantBits;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return hash;
     }
     
     @Override
     public String toString() {
-        return "IdentityValue{value='" + value + "'}";
+        return "IdentityValue{value='" + getValue() + "'}";
+    }
+    
+    private static int computeHash(final long mostSignificantBits, final long leastSignificantBits) {
+        final long hilo = mostSignificantBits ^ leastSignificantBits;
+        return ((int) (hilo >> 32)) ^ (int) hilo;
+    }
+    
+    private static UUID requireUuid(final UUID uuid) {
+        if (uuid == null) {
+            throw new IllegalArgumentException("Identity value must not be null or empty");
+        }
+        return uuid;
+    }
+    
+    private static UUID parse(final String value) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Identity value must not be null or empty");
+        }
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Identity value must be a valid UUID: " + value, e);
+        }
     }
 }
@@ -1,12 +1,16 @@
 package com.learningapp.base.domain.valueobject;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * 学習カテゴリID
  */
-public final class StudyCategoryId implements ValueObject<String> {
+public final class StudyCategoryId implements ValueObject<String>, Identity, Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     private final IdentityValue identityValue;
     
@@ -18,6 +22,10 @@ public final class StudyCategoryId implements ValueObject<String> {
         return new StudyCategoryId(new IdentityValue(value));
     }
     
+    public static StudyCategoryId of(final UUID value) {
+        return new StudyCategoryId(new IdentityValue(value));
+    }
+    
     public static StudyCategoryId generate() {
         return new StudyCategoryId(new IdentityValue());
     }
@@ -35,17 +43,22 @@ public final class StudyCategoryId implements ValueObject<String> {
         return identityValue.getValue();
     }
     
+    @Override
+    public IdentityValue getIdentityValue() {
+        return identityValue;
+    }
+    
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         final StudyCategoryId that = (StudyCategoryId) obj;
-        return Objects.equals(identityValue, that.identityValue);
+        return identityValue.equals(that.identityValue);
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(identityValue);
+        return identityValue.hashCode();
     }
     
     @Override
@@ -0,0 +1,69 @@
+package com.learningapp.base.domain.valueobject;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 時刻順序付きUUID（UUIDv7形式）の生成器
+ * 
+ * 上位48bitにUnixエポックミリ秒、続く12bitに同一ミリ秒内の単調増加カウンタを置くため、
+ * 新しいIDは常に主キーB-treeの右端に挿入される。
+ * 乱数部はThreadLocalRandomから取得し、SecureRandomのロック競合を避ける。
+ */
+public final class TimeOrderedIdGenerator {
+    
+    private static final long VERSION_BITS = 0x7L << 12;
+    private static final long VARIANT_BITS = 0x2L << 62;
+    private static final long COUNTER_MASK = 0xFFFL;
+    private static final long RANDOM_62_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    
+    /**
+     * (エポックミリ秒 << 12) | カウンタ を保持し、JVM内でのID順序を単調に保つ
+     */
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+    
+    private TimeOrderedIdGenerator() {
+    }
+    
+    /**
+     * 新しいUUIDを生成
+     */
+    public static UUID nextUuid() {
+        return new UUID(nextMostSignificantBits(), nextLeastSignificantBits());
+    }
+    
+    /**
+     * 上位64bit（タイムスタンプ・バージョン・カウンタ）を生成
+     * 同一ミリ秒内でカウンタが溢れた場合はタイムスタンプを1ms進めて順序を保つ
+     */
+    static long nextMostSignificantBits() {
+        final long candidate = (System.currentTimeMillis() << 12)
+            | (ThreadLocalRandom.current().nextLong() & 0x3FFL);
+        return toMostSignificantBits(LAST_TIMESTAMP_AND_COUNTER.updateAndGet(last -> advance(last, candidate)));
+    }
+    
+    /**
+     * 前回値より大きい候補はそのまま採り、そうでなければ前回値 + 1 とする
+     * カウンタ（下位12bit）が 0xFFF から繰り上がるとタイムスタンプ部が1ms進む
+     */
+    static long advance(final long lastTimestampAndCounter, final long candidate) {
+        return candidate > lastTimestampAndCounter ? candidate : lastTimestampAndCounter + 1;
+    }
+    
+    /**
+     * (エポックミリ秒 << 12) | カウンタ を 48bitタイムスタンプ・4bitバージョン・12bitカウンタ に並べ替える
+     */
+    static long toMostSignificantBits(final long timestampAndCounter) {
+        final long timestamp = timestampAndCounter >>> 12;
+        final long counter = timestampAndCounter & COUNTER_MASK;
+        return (timestamp << 16) | VERSION_BITS | counter;
+    }
+    
+    /**
+     * 下位64bit（バリアント・乱数62bit）を生成
+     */
+    static long nextLeastSignificantBits() {
+        return VARIANT_BITS | (ThreadLocalRandom.current().nextLong() & RANDOM_62_MASK);
+    }
+}
@@ -1,7 +1,9 @@
 package com.learningapp.base.domain.valueobject;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * ユーザーID
@@ -9,7 +11,9 @@ import java.util.Optional;
  * Effective Java Item 18: 継承よりもコンポジション
  * Effective Java Item 55: Optionalを適切に使用する
  */
-public final class UserId implements ValueObject<String> {
+public final class UserId implements ValueObject<String>, Identity, Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     private final IdentityValue identityValue;
     
@@ -24,6 +28,13 @@ public final class UserId implements ValueObject<String> {
         return new UserId(new IdentityValue(value));
     }
     
+    /**
+     * UUIDから生成（Postgres uuid列からの復元用、文字列解析なし）
+     */
+    public static UserId of(final UUID value) {
+        return new UserId(new IdentityValue(value));
+    }
+    
     /**
      * 新規生成
      */
@@ -50,17 +61,22 @@ public final class UserId implements ValueObject<String> {
         return identityValue.getValue();
     }
     
+    @Override
+    public IdentityValue getIdentityValue() {
+        return identityValue;
+    }
+    
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         final UserId userId = (UserId) obj;
-        return Objects.equals(identityValue, userId.identityValue);
+        return identityValue.equals(userId.identityValue);
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(identityValue);
+        return identityValue.hashCode();
     }
     
     @Override
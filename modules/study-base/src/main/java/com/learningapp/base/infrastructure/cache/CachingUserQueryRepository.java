@@ -0,0 +1,392 @@
+package com.learningapp.base.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.learningapp.base.domain.entity.User;
+import com.learningapp.base.domain.repository.EmailDomainCount;
+import com.learningapp.base.domain.repository.KeysetPage;
+import com.learningapp.base.domain.repository.PageCursor;
+import com.learningapp.base.domain.repository.UserQueryRepository;
+import com.learningapp.base.domain.valueobject.UserId;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * ニアキャッシュ付きUser Query Repository
+ * DB実装をデコレートし、findByEmail / findById の結果をプロセス内にキャッシュする
+ *
+ * 「存在しない」結果もOptional.empty()として短いTTLでキャッシュする（ネガティブキャッシュ）
+ * サインアップ・取込時の重複チェックは大半がミスのため、一意インデックスへの問い合わせをここで吸収する
+ *
+ * 無効化は {@link NearCacheInvalidatingUserCommandRepository} がコミット後に行い、
+ * {@link NearCacheInvalidationPublisher} で他ノードへも配信する（受信側は {@link #onPeerInvalidation}）。
+ * 配信を取りこぼした場合（Pub/Subは配信保証がない）、他ノードの不整合は各エントリのTTL
+ * （既定で存在する結果は5分、存在しない結果は30秒）まで残る
+ *
+ * Beanとして登録するとヒット率等が {@link CaffeineCacheMetrics}（cache=users.by-id / users.by-email）で公開される
+ */
+public class CachingUserQueryRepository implements UserQueryRepository, MeterBinder {
+    
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(30);
+    
+    /**
+     * 無効化の配信で使うキャッシュ名（Spring Cacheのキャッシュ名と重ならないようにする）
+     */
+    public static final String CACHE_NAME = "users.near";
+    
+    /**
+     * 配信キー内のIDとメールアドレスの区切り（メールアドレスは改行を含まない）
+     */
+    private static final char KEY_SEPARATOR = '\n';
+    
+    private final UserQueryRepository source;
+    private final NearCacheInvalidationPublisher publisher;
+    private final Cache<UserId, Optional<User>> byId;
+    private final Cache<String, Optional<User>> byEmail;
+    
+    /**
+     * ID → キャッシュ済みメールアドレスの逆引き（メール変更時に旧アドレスのエントリを特定する）
+     */
+    private final Cache<UserId, String> emailById;
+    
+    private final LongAdder negativeHits = new LongAdder();
+    
+    /**
+     * 無効化の世代（DBからの読み込み中に無効化が割り込んだかを判定する）
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    public CachingUserQueryRepository(final UserQueryRepository source) {
+        this(source, DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL, DEFAULT_NEGATIVE_TTL, NearCacheInvalidationPublisher.NONE);
+    }
+    
+    public CachingUserQueryRepository(final UserQueryRepository source,
+                                      final NearCacheInvalidationPublisher publisher) {
+        this(source, DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL, DEFAULT_NEGATIVE_TTL, publisher);
+    }
+    
+    public CachingUserQueryRepository(final UserQueryRepository source,
+                                      final long maximumSize,
+                                      final Duration ttl,
+                                      final Duration negativeTtl,
+                                      final NearCacheInvalidationPublisher publisher) {
+        this.source = Objects.requireNonNull(source, "Source repository must not be null");
+        this.publisher = Objects.requireNonNull(publisher, "Publisher must not be null");
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("キャッシュサイズは1以上である必要があります");
+        }
+        if (ttl.isNegative() || ttl.isZero() || negativeTtl.isNegative() || negativeTtl.isZero()) {
+            throw new IllegalArgumentException("TTLは正の値である必要があります");
+        }
+        
+        final PresenceExpiry expiry = new PresenceExpiry(ttl, negativeTtl);
+        this.byId = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(expiry.<UserId>forKey())
+            .recordStats()
+            .build();
+        this.byEmail = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(expiry.<String>forKey())
+            .recordStats()
+            .build();
+        this.emailById = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+    
+    @Override
+    public Optional<User> findById(final UserId id) {
+        return lookup(byId, id, source::findById);
+    }
+    
+    @Override
+    public Optional<User> findByEmail(final String email) {
+        if (email == null) {
+            return source.findByEmail(null);
+        }
+        return lookup(byEmail, normalize(email), source::findByEmail);
+    }
+    
+    /**
+     * キャッシュ済みのアドレスはキャッシュから判定し、残りのみDBに問い合わせる
+     * 一括取込で大量のネガティブエントリが積まれないよう、結果はキャッシュに書き戻さない
+     */
+    @Override
+    public Set<String> findExistingEmails(final Collection<String> emails) {
+        final Set<String> existing = new HashSet<>();
+        final List<String> unresolved = new ArrayList<>();
+        for (final String email : emails) {
+            final Optional<User> cached = byEmail.getIfPresent(normalize(email));
+            if (cached == null) {
+                unresolved.add(email);
+            } else if (cached.isPresent()) {
+                existing.add(email);
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            existing.addAll(source.findExistingEmails(unresolved));
+        }
+        return existing;
+    }
+    
+    @Override
+    public List<User> findAllById(final List<UserId> ids) {
+        return source.findAllById(ids);
+    }
+    
+    @Override
+    public List<User> findAll() {
+        return source.findAll();
+    }
+    
+    @Override
+    public Stream<User> streamAll() {
+        return source.streamAll();
+    }
+    
+    @Override
+    public boolean existsById(final UserId id) {
+        return findById(id).isPresent();
+    }
+    
+    @Override
+    public long count() {
+        return source.count();
+    }
+    
+    @Override
+    public KeysetPage<User> findPage(final PageCursor after, final int limit) {
+        return source.findPage(after, limit);
+    }
+    
+    @Override
+    @Deprecated
+    public List<User> findByNameContaining(final String name) {
+        return source.findByNameContaining(name);
+    }
+    
+    @Override
+    public List<User> searchByName(final String query, final int limit) {
+        return source.searchByName(query, limit);
+    }
+    
+    @Override
+    public List<User> findByNamePrefix(final String prefix, final int limit) {
+        return source.findByNamePrefix(prefix, limit);
+    }
+    
+    @Override
+    public List<User> findByEmailDomain(final String domain) {
+        return source.findByEmailDomain(domain);
+    }
+    
+    @Override
+    public long countByEmailDomain(final String domain) {
+        return source.countByEmailDomain(domain);
+    }
+    
+    @Override
+    public List<EmailDomainCount> findEmailDomainCounts(final boolean corporate, final int limit) {
+        return source.findEmailDomainCounts(corporate, limit);
+    }
+    
+    /**
+     * ユーザーに関するエントリを無効化し、他ノードへ配信する
+     * IDのエントリ、指定メールアドレス（新アドレスのネガティブエントリを含む）、キャッシュ済みの旧アドレスを対象とする
+     */
+    public void invalidate(final UserId id, final String email) {
+        evictLocal(id, email);
+        publisher.publish((id != null ? id.getValue() : "") + KEY_SEPARATOR + (email != null ? normalize(email) : ""));
+    }
+    
+    /**
+     * 全エントリを破棄し、他ノードへ配信する
+     */
+    public void invalidateAll() {
+        clearLocal();
+        publisher.publish(null);
+    }
+    
+    /**
+     * 他ノードからの無効化をこのノードのみに適用する
+     * 旧アドレスのエントリは各ノードが自身の逆引きから特定する
+     * 
+     * @param key {@link #invalidate} が配信したキー（nullの場合は全エントリ）
+     */
+    public void onPeerInvalidation(final String key) {
+        if (key == null) {
+            clearLocal();
+            return;
+        }
+        final int separator = key.indexOf(KEY_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("無効化キーの形式が不正です: " + key);
+        }
+        final String id = key.substring(0, separator);
+        final String email = key.substring(separator + 1);
+        evictLocal(id.isEmpty() ? null : UserId.of(id), email.isEmpty() ? null : email);
+    }
+    
+    /**
+     * ヒット・ミスの統計
+     */
+    public NearCacheStats getStats() {
+        return new NearCacheStats(
+            byId.stats().hitCount() + byEmail.stats().hitCount(),
+            byId.stats().missCount() + byEmail.stats().missCount(),
+            negativeHits.sum(),
+            byId.stats().evictionCount() + byEmail.stats().evictionCount(),
+            byId.estimatedSize() + byEmail.estimatedSize()
+        );
+    }
+    
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byId, "users.by-id");
+        CaffeineCacheMetrics.monitor(registry, byEmail, "users.by-email");
+        FunctionCounter.builder("cache.negative.hits", negativeHits, LongAdder::sum)
+            .tag("cache", "users")
+            .description("「存在しない」結果のキャッシュヒット数")
+            .register(registry);
+    }
+    
+    /**
+     * キャッシュから取得し、ミス時はDBから読み込んでもう片方のキーのキャッシュにも載せる
+     *
+     * 読み込み中に無効化が割り込んだ場合、読み込んだ値は更新前の可能性があるため、
+     * 読み込みで載せたエントリ（相互キャッシュ分を含む）を取り消す。
+     * 無効化は世代を進めてからエントリを消すため、書き込み後の再確認か無効化のどちらかで必ず除去される
+     */
+    private <K> Optional<User> lookup(final Cache<K, Optional<User>> cache,
+                                      final K key,
+                                      final Function<K, Optional<User>> loader) {
+        final long generation = invalidations.get();
+        final boolean[] loaded = new boolean[1];
+        final Optional<User> result = cache.get(key, k -> {
+            loaded[0] = true;
+            return loader.apply(k);
+        });
+        
+        if (!loaded[0]) {
+            if (result.isEmpty()) {
+                negativeHits.increment();
+            }
+            return result;
+        }
+        
+        result.ifPresent(this::crossPopulate);
+        if (invalidations.get() != generation) {
+            cache.invalidate(key);
+            result.ifPresent(this::evict);
+        }
+        return result;
+    }
+    
+    /**
+     * 片方のキーで読み込んだユーザーをもう片方のキャッシュにも載せる
+     */
+    private void crossPopulate(final User user) {
+        final String email = normalize(user.getEmail());
+        emailById.put(user.getId(), email);
+        byId.put(user.getId(), Optional.of(user));
+        byEmail.put(email, Optional.of(user));
+    }
+    
+    private void evict(final User user) {
+        emailById.invalidate(user.getId());
+        byId.invalidate(user.getId());
+        byEmail.invalidate(normalize(user.getEmail()));
+    }
+    
+    private void evictLocal(final UserId id, final String email) {
+        invalidations.incrementAndGet();
+        if (id != null) {
+            final String cachedEmail = emailById.getIfPresent(id);
+            if (cachedEmail != null) {
+                byEmail.invalidate(cachedEmail);
+            }
+            emailById.invalidate(id);
+            byId.invalidate(id);
+        }
+        if (email != null) {
+            byEmail.invalidate(normalize(email));
+        }
+    }
+    
+    private void clearLocal() {
+        invalidations.incrementAndGet();
+        byId.invalidateAll();
+        byEmail.invalidateAll();
+        emailById.invalidateAll();
+    }
+    
+    private static String normalize(final String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * ヒット・ミス統計のスナップショット
+     *
+     * @param hitCount キャッシュヒット数（ネガティブヒットを含む）
+     * @param missCount DBへ問い合わせた回数
+     * @param negativeHitCount 「存在しない」結果のキャッシュヒット数
+     * @param evictionCount サイズ超過・期限切れによる追い出し数
+     * @param size 現在のエントリ数（概算）
+     */
+    public record NearCacheStats(long hitCount, long missCount, long negativeHitCount,
+                                 long evictionCount, long size) {
+        
+        public double hitRate() {
+            final long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+    }
+    
+    /**
+     * 値の有無でTTLを切り替える有効期限ポリシー
+     */
+    private record PresenceExpiry(Duration ttl, Duration negativeTtl) {
+        
+        <K> Expiry<K, Optional<User>> forKey() {
+            return new Expiry<>() {
+                @Override
+                public long expireAfterCreate(final K key, final Optional<User> value, final long currentTime) {
+                    return (value.isPresent() ? ttl : negativeTtl).toNanos();
+                }
+                
+                @Override
+                public long expireAfterUpdate(final K key, final Optional<User> value,
+                                              final long currentTime, final long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+                
+                @Override
+                public long expireAfterRead(final K key, final Optional<User> value,
+                                            final long currentTime, final long currentDuration) {
+                    return currentDuration;
+                }
+            };
+        }
+    }
+}
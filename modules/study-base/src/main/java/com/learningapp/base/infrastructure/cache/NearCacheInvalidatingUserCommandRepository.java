@@ -0,0 +1,52 @@
+package com.learningapp.base.infrastructure.cache;
+
+import com.learningapp.base.domain.entity.User;
+import com.learningapp.base.domain.repository.BatchWriteResult;
+import com.learningapp.base.domain.repository.UserCommandRepository;
+import com.learningapp.base.domain.valueobject.UserId;
+import com.learningapp.base.infrastructure.transaction.TransactionCallbacks;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 書き込み後にユーザーのニアキャッシュを無効化するUser Command Repository
+ * トランザクション内ではコミット後に無効化し、並行する読み込みがコミット前の古い値を再キャッシュしないようにする
+ */
+public class NearCacheInvalidatingUserCommandRepository implements UserCommandRepository {
+    
+    private final UserCommandRepository delegate;
+    private final CachingUserQueryRepository cache;
+    
+    public NearCacheInvalidatingUserCommandRepository(final UserCommandRepository delegate,
+                                                      final CachingUserQueryRepository cache) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate repository must not be null");
+        this.cache = Objects.requireNonNull(cache, "Cache must not be null");
+    }
+    
+    @Override
+    public void save(final User user) {
+        delegate.save(user);
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(user.getId(), user.getEmail()));
+    }
+    
+    @Override
+    public BatchWriteResult saveAll(final List<User> users) {
+        final BatchWriteResult result = delegate.saveAll(users);
+        TransactionCallbacks.afterCommit(() ->
+            users.forEach(user -> cache.invalidate(user.getId(), user.getEmail())));
+        return result;
+    }
+    
+    @Override
+    public void delete(final UserId id) {
+        delegate.delete(id);
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(id, null));
+    }
+    
+    @Override
+    public void deletePhysically(final UserId id) {
+        delegate.deletePhysically(id);
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(id, null));
+    }
+}
@@ -0,0 +1,19 @@
+package com.learningapp.base.infrastructure.cache;
+
+/**
+ * プロセス内キャッシュの無効化を他ノードへ配信する
+ * 実装はstudy-allの無効化バス（Redis Pub/Sub）に載せる。単一ノードでは {@link #NONE} を使う
+ */
+@FunctionalInterface
+public interface NearCacheInvalidationPublisher {
+    
+    /**
+     * 配信しない
+     */
+    NearCacheInvalidationPublisher NONE = key -> { };
+    
+    /**
+     * @param key 無効化するキー（nullの場合はキャッシュ全体）
+     */
+    void publish(String key);
+}
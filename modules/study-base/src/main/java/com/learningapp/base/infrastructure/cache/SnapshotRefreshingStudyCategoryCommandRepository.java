@@ -0,0 +1,47 @@
+package com.learningapp.base.infrastructure.cache;
+
+import com.learningapp.base.domain.entity.StudyCategory;
+import com.learningapp.base.domain.repository.StudyCategoryCommandRepository;
+import com.learningapp.base.domain.valueobject.StudyCategoryId;
+import com.learningapp.base.infrastructure.transaction.TransactionCallbacks;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 書き込み後にカテゴリスナップショットを再構築するStudyCategory Command Repository
+ * トランザクション内ではコミット後に再構築し、未コミットの状態をスナップショットに載せない
+ */
+public class SnapshotRefreshingStudyCategoryCommandRepository implements StudyCategoryCommandRepository {
+    
+    private final StudyCategoryCommandRepository delegate;
+    private final SnapshotStudyCategoryQueryRepository snapshotRepository;
+    
+    public SnapshotRefreshingStudyCategoryCommandRepository(final StudyCategoryCommandRepository delegate,
+                                                            final SnapshotStudyCategoryQueryRepository snapshotRepository) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate repository must not be null");
+        this.snapshotRepository = Objects.requireNonNull(snapshotRepository, "Snapshot repository must not be null");
+    }
+    
+    @Override
+    public void save(final StudyCategory category) {
+        delegate.save(category);
+        refreshSnapshot();
+    }
+    
+    @Override
+    public void delete(final StudyCategoryId id) {
+        delegate.delete(id);
+        refreshSnapshot();
+    }
+    
+    @Override
+    public void updateDisplayOrders(final Map<StudyCategoryId, Integer> orderMap) {
+        delegate.updateDisplayOrders(orderMap);
+        refreshSnapshot();
+    }
+    
+    private void refreshSnapshot() {
+        TransactionCallbacks.afterCommit(snapshotRepository::refresh);
+    }
+}
@@ -0,0 +1,106 @@
+package com.learningapp.base.infrastructure.cache;
+
+import com.learningapp.base.domain.entity.StudyCategory;
+import com.learningapp.base.domain.repository.StudyCategoryQueryRepository;
+import com.learningapp.base.domain.valueobject.StudyCategoryId;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * スナップショットから応答するStudyCategory Query Repository
+ * DB実装をデコレートし、読み取りは全てメモリ上の不変スナップショットで処理する
+ * 
+ * スナップショットは書き込み時に {@link #refresh()} で丸ごと再構築し、参照を差し替える（Copy-on-Write）
+ * 読み取り側はロックを取らず、常に一貫したスナップショットを参照する
+ */
+public class SnapshotStudyCategoryQueryRepository implements StudyCategoryQueryRepository {
+    
+    private final StudyCategoryQueryRepository source;
+    private volatile StudyCategorySnapshot snapshot;
+    
+    public SnapshotStudyCategoryQueryRepository(final StudyCategoryQueryRepository source) {
+        this.source = Objects.requireNonNull(source, "Source repository must not be null");
+        this.snapshot = StudyCategorySnapshot.of(source.findAll());
+    }
+    
+    /**
+     * DBから全カテゴリを読み直してスナップショットを差し替える
+     * 再構築は直列化し、古い読み込み結果が新しいスナップショットを上書きしないようにする
+     */
+    public synchronized void refresh() {
+        this.snapshot = StudyCategorySnapshot.of(source.findAll());
+    }
+    
+    /**
+     * 現在のスナップショット
+     */
+    public StudyCategorySnapshot getSnapshot() {
+        return snapshot;
+    }
+    
+    @Override
+    public Optional<StudyCategory> findById(final StudyCategoryId id) {
+        return snapshot.findById(id);
+    }
+    
+    @Override
+    public List<StudyCategory> findAllById(final List<StudyCategoryId> ids) {
+        final StudyCategorySnapshot current = snapshot;
+        return ids.stream()
+            .map(current::findById)
+            .flatMap(Optional::stream)
+            .toList();
+    }
+    
+    @Override
+    public List<StudyCategory> findAll() {
+        return snapshot.getOrderedCategories();
+    }
+    
+    @Override
+    public boolean existsById(final StudyCategoryId id) {
+        return snapshot.containsId(id);
+    }
+    
+    @Override
+    public long count() {
+        return snapshot.size();
+    }
+    
+    @Override
+    public List<StudyCategory> findAllOrderByDisplayOrder() {
+        return snapshot.getOrderedCategories();
+    }
+    
+    @Override
+    @Deprecated
+    public List<StudyCategory> findByNameContaining(final String name) {
+        if (name == null || name.isEmpty()) return List.of();
+        
+        return snapshot.getOrderedCategories().stream()
+            .filter(category -> category.getName().contains(name))
+            .toList();
+    }
+    
+    @Override
+    public List<StudyCategory> searchByName(final String query, final int limit) {
+        return snapshot.searchByName(query, limit);
+    }
+    
+    @Override
+    public List<StudyCategory> findByNamePrefix(final String prefix, final int limit) {
+        return snapshot.findByNamePrefix(prefix, limit);
+    }
+    
+    @Override
+    public List<StudyCategory> findExamCategories() {
+        return snapshot.getExamCategories();
+    }
+    
+    @Override
+    public List<StudyCategory> findPracticalCategories() {
+        return snapshot.getPracticalCategories();
+    }
+}
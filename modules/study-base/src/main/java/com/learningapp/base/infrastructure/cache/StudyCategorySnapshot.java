@@ -0,0 +1,99 @@
+package com.learningapp.base.infrastructure.cache;
+
+import com.learningapp.base.domain.entity.StudyCategory;
+import com.learningapp.base.domain.valueobject.StudyCategoryId;
+import com.learningapp.base.infrastructure.search.NgramIndex;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 学習カテゴリマスタの不変スナップショット
+ * 表示順ソート・試験/実技分類・ID/名前索引・名前検索用N-gram索引を構築時に一度だけ計算する
+ * Effective Java Item 17: 可変性を最小限に抑える
+ */
+public final class StudyCategorySnapshot {
+    
+    private static final Comparator<StudyCategory> DISPLAY_ORDER =
+        Comparator.comparingInt(StudyCategory::getDisplayOrder).thenComparing(StudyCategory::getName);
+    
+    private final List<StudyCategory> orderedCategories;
+    private final List<StudyCategory> examCategories;
+    private final List<StudyCategory> practicalCategories;
+    private final Map<StudyCategoryId, StudyCategory> byId;
+    private final Map<String, StudyCategory> byName;
+    private final NgramIndex<StudyCategoryId, StudyCategory> nameIndex;
+    
+    private StudyCategorySnapshot(final List<StudyCategory> orderedCategories) {
+        this.orderedCategories = orderedCategories;
+        this.examCategories = orderedCategories.stream().filter(StudyCategory::isExamCategory).toList();
+        this.practicalCategories = orderedCategories.stream().filter(StudyCategory::isPracticalCategory).toList();
+        this.byId = orderedCategories.stream()
+            .collect(Collectors.toUnmodifiableMap(StudyCategory::getId, Function.identity()));
+        this.byName = orderedCategories.stream()
+            .collect(Collectors.toUnmodifiableMap(StudyCategory::getName, Function.identity()));
+        // 構築後は更新しないため、読み取り専用として共有できる
+        this.nameIndex = NgramIndex.of(orderedCategories, StudyCategory::getId, StudyCategory::getName);
+    }
+    
+    /**
+     * カテゴリ一覧からスナップショットを構築
+     */
+    public static StudyCategorySnapshot of(final Collection<StudyCategory> categories) {
+        return new StudyCategorySnapshot(categories.stream().sorted(DISPLAY_ORDER).toList());
+    }
+    
+    public static StudyCategorySnapshot empty() {
+        return new StudyCategorySnapshot(List.of());
+    }
+    
+    public Optional<StudyCategory> findById(final StudyCategoryId id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+    
+    public Optional<StudyCategory> findByName(final String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+    
+    /**
+     * 名前の部分一致検索（完全一致 > 前方一致 > 部分一致の順）
+     */
+    public List<StudyCategory> searchByName(final String query, final int limit) {
+        return nameIndex.search(query, limit);
+    }
+    
+    /**
+     * 名前の前方一致検索
+     */
+    public List<StudyCategory> findByNamePrefix(final String prefix, final int limit) {
+        return nameIndex.searchPrefix(prefix, limit);
+    }
+    
+    /**
+     * 表示順の全カテゴリ
+     */
+    public List<StudyCategory> getOrderedCategories() {
+        return orderedCategories;
+    }
+    
+    public List<StudyCategory> getExamCategories() {
+        return examCategories;
+    }
+    
+    public List<StudyCategory> getPracticalCategories() {
+        return practicalCategories;
+    }
+    
+    public boolean containsId(final StudyCategoryId id) {
+        return byId.containsKey(id);
+    }
+    
+    public int size() {
+        return orderedCategories.size();
+    }
+}
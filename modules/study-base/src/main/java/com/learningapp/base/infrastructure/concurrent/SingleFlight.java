@@ -0,0 +1,98 @@
+package com.learningapp.base.infrastructure.concurrent;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 同一キーの同時呼び出しを1回の実行にまとめる（single-flight）
+ * 
+ * 最初の呼び出し（リーダー）だけがローダーを実行し、実行中に到着した同じキーの呼び出しはその結果（例外を含む）を共有する
+ * 結果は保持しないため、完了後の呼び出しは再びローダーを実行する（キャッシュではない）
+ * 
+ * 待機は {@code maxWait} までとし、超えた場合はリーダーを待たずに自分でローダーを実行する
+ */
+public final class SingleFlight<K, V> {
+    
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+    
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+    private final LongAdder waitTimeouts = new LongAdder();
+    
+    public SingleFlight(final Duration maxWait) {
+        this.maxWait = Objects.requireNonNull(maxWait, "Max wait must not be null");
+        if (maxWait.isNegative() || maxWait.isZero()) {
+            throw new IllegalArgumentException("待機時間は正の値である必要があります");
+        }
+    }
+    
+    /**
+     * キーが実行中ならその結果を待ち、そうでなければローダーを実行する
+     */
+    public V execute(final K key, final Supplier<V> loader) {
+        final CompletableFuture<V> call = new CompletableFuture<>();
+        final CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing == null) {
+            return lead(key, call, loader);
+        }
+        
+        collapsed.increment();
+        return await(existing, loader);
+    }
+    
+    public Stats getStats() {
+        return new Stats(executions.sum(), collapsed.sum(), waitTimeouts.sum(), inFlight.size());
+    }
+    
+    private V lead(final K key, final CompletableFuture<V> call, final Supplier<V> loader) {
+        executions.increment();
+        try {
+            final V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+    
+    private V await(final CompletableFuture<V> call, final Supplier<V> loader) {
+        try {
+            return call.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            waitTimeouts.increment();
+            executions.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an in-flight call", e);
+        }
+    }
+    
+    /**
+     * 呼び出しの集計
+     * 
+     * @param executions ローダーを実行した回数（DBへの問い合わせ回数）
+     * @param collapsed 実行中の呼び出しに相乗りした回数
+     * @param waitTimeouts 相乗りの待機が上限を超え、自分で実行した回数
+     * @param inFlight 現在実行中のキー数
+     */
+    public record Stats(long executions, long collapsed, long waitTimeouts, int inFlight) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.learningapp.base.infrastructure.mybatis;
+
+import org.apache.ibatis.cursor.Cursor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * MyBatisのCursorをStreamへ変換するユーティリティ
+ * サーバーサイドカーソルを default-fetch-size 行ずつ読み進め、Streamのcloseでカーソルを確実に解放する
+ * 
+ * PostgreSQLでサーバーサイドカーソルを有効にするには、読み取り専用トランザクション内
+ * （autocommit無効）で呼び出す必要がある
+ */
+public final class CursorStreams {
+    
+    private CursorStreams() {
+    }
+    
+    /**
+     * Cursorを逐次読み込みのStreamに変換
+     * 呼び出し側はtry-with-resourcesでStreamを閉じること
+     */
+    public static <T> Stream<T> stream(final Cursor<T> cursor) {
+        Objects.requireNonNull(cursor, "Cursor must not be null");
+        return StreamSupport.stream(cursor.spliterator(), false)
+            .onClose(() -> close(cursor));
+    }
+    
+    private static void close(final Cursor<?> cursor) {
+        try {
+            cursor.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("カーソルのクローズに失敗しました", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.learningapp.base.infrastructure.mybatis.typehandler;
+
+import com.learningapp.base.domain.valueobject.Identity;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * ID Value Object用TypeHandlerの共通実装
+ * uuid列をjava.util.UUIDとして直接読み書きし、文字列の生成・解析を行わない
+ */
+public abstract class IdentityTypeHandler<T extends Identity> extends BaseTypeHandler<T> {
+    
+    private final Function<UUID, T> factory;
+    
+    protected IdentityTypeHandler(final Function<UUID, T> factory) {
+        this.factory = Objects.requireNonNull(factory, "Factory must not be null");
+    }
+    
+    @Override
+    public void setNonNullParameter(final PreparedStatement ps, final int i, final T parameter,
+                                    final JdbcType jdbcType) throws SQLException {
+        ps.setObject(i, parameter.toUuid());
+    }
+    
+    @Override
+    public T getNullableResult(final ResultSet rs, final String columnName) throws SQLException {
+        return toIdentity(rs.getObject(columnName, UUID.class));
+    }
+    
+    @Override
+    public T getNullableResult(final ResultSet rs, final int columnIndex) throws SQLException {
+        return toIdentity(rs.getObject(columnIndex, UUID.class));
+    }
+    
+    @Override
+    public T getNullableResult(final CallableStatement cs, final int columnIndex) throws SQLException {
+        return toIdentity(cs.getObject(columnIndex, UUID.class));
+    }
+    
+    private T toIdentity(final UUID uuid) {
+        return uuid != null ? factory.apply(uuid) : null;
+    }
+}
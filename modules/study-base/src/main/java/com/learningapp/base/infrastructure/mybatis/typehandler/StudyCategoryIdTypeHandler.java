@@ -0,0 +1,15 @@
+package com.learningapp.base.infrastructure.mybatis.typehandler;
+
+import com.learningapp.base.domain.valueobject.StudyCategoryId;
+import org.apache.ibatis.type.MappedTypes;
+
+/**
+ * 学習カテゴリIDのTypeHandler
+ */
+@MappedTypes(StudyCategoryId.class)
+public class StudyCategoryIdTypeHandler extends IdentityTypeHandler<StudyCategoryId> {
+    
+    public StudyCategoryIdTypeHandler() {
+        super(StudyCategoryId::of);
+    }
+}
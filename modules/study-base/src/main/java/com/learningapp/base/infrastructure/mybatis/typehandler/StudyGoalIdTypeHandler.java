@@ -0,0 +1,15 @@
+package com.learningapp.base.infrastructure.mybatis.typehandler;
+
+import com.learningapp.base.domain.valueobject.StudyGoalId;
+import org.apache.ibatis.type.MappedTypes;
+
+/**
+ * 学習目標IDのTypeHandler
+ */
+@MappedTypes(StudyGoalId.class)
+public class StudyGoalIdTypeHandler extends IdentityTypeHandler<StudyGoalId> {
+    
+    public StudyGoalIdTypeHandler() {
+        super(StudyGoalId::of);
+    }
+}
@@ -0,0 +1,15 @@
+package com.learningapp.base.infrastructure.mybatis.typehandler;
+
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import org.apache.ibatis.type.MappedTypes;
+
+/**
+ * 学習計画IDのTypeHandler
+ */
+@MappedTypes(StudyPlanId.class)
+public class StudyPlanIdTypeHandler extends IdentityTypeHandler<StudyPlanId> {
+    
+    public StudyPlanIdTypeHandler() {
+        super(StudyPlanId::of);
+    }
+}
@@ -0,0 +1,44 @@
+package com.learningapp.base.infrastructure.mybatis.typehandler;
+
+import com.learningapp.base.domain.enums.StudyPlanStatus;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 学習計画ステータスのTypeHandler
+ * コード値を事前計算済みテーブルで引く（StudyPlanStatus.fromCode）
+ */
+@MappedTypes(StudyPlanStatus.class)
+public class StudyPlanStatusTypeHandler extends BaseTypeHandler<StudyPlanStatus> {
+    
+    @Override
+    public void setNonNullParameter(final PreparedStatement ps, final int i, final StudyPlanStatus parameter,
+                                    final JdbcType jdbcType) throws SQLException {
+        ps.setString(i, parameter.getCode());
+    }
+    
+    @Override
+    public StudyPlanStatus getNullableResult(final ResultSet rs, final String columnName) throws SQLException {
+        return toEnum(rs.getString(columnName));
+    }
+    
+    @Override
+    public StudyPlanStatus getNullableResult(final ResultSet rs, final int columnIndex) throws SQLException {
+        return toEnum(rs.getString(columnIndex));
+    }
+    
+    @Override
+    public StudyPlanStatus getNullableResult(final CallableStatement cs, final int columnIndex) throws SQLException {
+        return toEnum(cs.getString(columnIndex));
+    }
+    
+    private static StudyPlanStatus toEnum(final String code) {
+        return code != null ? StudyPlanStatus.fromCode(code) : null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.learningapp.base.infrastructure.mybatis.typehandler;
+
+import com.learningapp.base.domain.valueobject.StudySessionId;
+import org.apache.ibatis.type.MappedTypes;
+
+/**
+ * 学習セッションIDのTypeHandler
+ */
+@MappedTypes(StudySessionId.class)
+public class StudySessionIdTypeHandler extends IdentityTypeHandler<StudySessionId> {
+    
+    public StudySessionIdTypeHandler() {
+        super(StudySessionId::of);
+    }
+}
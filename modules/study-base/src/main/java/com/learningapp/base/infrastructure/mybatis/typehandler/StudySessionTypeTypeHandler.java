@@ -0,0 +1,44 @@
+package com.learningapp.base.infrastructure.mybatis.typehandler;
+
+import com.learningapp.base.domain.enums.StudySessionType;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 学習セッション種別のTypeHandler
+ * コード値を事前計算済みテーブルで引く（StudySessionType.fromCode）
+ */
+@MappedTypes(StudySessionType.class)
+public class StudySessionTypeTypeHandler extends BaseTypeHandler<StudySessionType> {
+    
+    @Override
+    public void setNonNullParameter(final PreparedStatement ps, final int i, final StudySessionType parameter,
+                                    final JdbcType jdbcType) throws SQLException {
+        ps.setString(i, parameter.getCode());
+    }
+    
+    @Override
+    public StudySessionType getNullableResult(final ResultSet rs, final String columnName) throws SQLException {
+        return toEnum(rs.getString(columnName));
+    }
+    
+    @Override
+    public StudySessionType getNullableResult(final ResultSet rs, final int columnIndex) throws SQLException {
+        return toEnum(rs.getString(columnIndex));
+    }
+    
+    @Override
+    public StudySessionType getNullableResult(final CallableStatement cs, final int columnIndex) throws SQLException {
+        return toEnum(cs.getString(columnIndex));
+    }
+    
+    private static StudySessionType toEnum(final String code) {
+        return code != null ? StudySessionType.fromCode(code) : null;
+    }
+}
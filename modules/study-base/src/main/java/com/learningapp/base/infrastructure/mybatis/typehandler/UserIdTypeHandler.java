@@ -0,0 +1,15 @@
+package com.learningapp.base.infrastructure.mybatis.typehandler;
+
+import com.learningapp.base.domain.valueobject.UserId;
+import org.apache.ibatis.type.MappedTypes;
+
+/**
+ * ユーザーIDのTypeHandler
+ */
+@MappedTypes(UserId.class)
+public class UserIdTypeHandler extends IdentityTypeHandler<UserId> {
+    
+    public UserIdTypeHandler() {
+        super(UserId::of);
+    }
+}
@@ -0,0 +1,42 @@
+package com.learningapp.base.infrastructure.search;
+
+/**
+ * 利用者の入力からLIKEパターンを組み立てる（SQL側は {@code ESCAPE '\'} を付けて使う）
+ * 入力中の % と _ はワイルドカードではなく文字として一致させる
+ */
+public final class LikePatterns {
+    
+    public static final char ESCAPE = '\\';
+    
+    private LikePatterns() {
+    }
+    
+    /**
+     * % ・ _ ・エスケープ文字自身の前にエスケープ文字を付ける
+     */
+    public static String escape(final String text) {
+        final StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+    
+    /**
+     * 部分一致のパターン（{@code %text%}）
+     */
+    public static String contains(final String text) {
+        return '%' + escape(text) + '%';
+    }
+    
+    /**
+     * 前方一致のパターン（{@code text%}）
+     */
+    public static String startsWith(final String text) {
+        return escape(text) + '%';
+    }
+}
@@ -0,0 +1,268 @@
+package com.learningapp.base.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 名前検索用のインメモリN-gram索引
+ * 単語分割に頼らず文字単位のユニグラム・バイグラムで転置索引を作るため、日本語の名前にもそのまま使える
+ *
+ * 部分一致検索は、クエリのN-gramを含むエントリの積集合を候補とし、正規化済み文字列の包含で確定する
+ * 前方一致検索は正規化済み文字列のソート済みマップを範囲走査する
+ *
+ * pg_trgmインデックスを持たない環境（H2のテストプロファイル等）でDB索引の代わりに使う
+ * 正規化（{@link #normalize}）と並び順はDB側（users.name_search、V010）と揃えている
+ *
+ * @param <K> エントリのキー（ID）
+ * @param <V> 索引対象の値
+ */
+public final class NgramIndex<K, V> {
+
+    /**
+     * コードポイント順（PostgreSQLの {@code COLLATE "C"} と同じ順序）
+     * String#compareTo はUTF-16単位で比べるため、補助文字とU+E000以降の文字の順序がDBと逆になる
+     */
+    static final Comparator<String> CODE_POINT_ORDER = NgramIndex::compareCodePoints;
+
+    private final Function<V, K> keyOf;
+    private final Function<V, String> textOf;
+
+    private final Map<K, Indexed<V>> entries = new HashMap<>();
+    private final Map<String, Set<K>> postings = new HashMap<>();
+    private final NavigableMap<String, Set<K>> sortedTexts = new TreeMap<>(CODE_POINT_ORDER);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public NgramIndex(final Function<V, K> keyOf, final Function<V, String> textOf) {
+        this.keyOf = Objects.requireNonNull(keyOf, "Key extractor must not be null");
+        this.textOf = Objects.requireNonNull(textOf, "Text extractor must not be null");
+    }
+
+    /**
+     * 値の一覧から索引を構築
+     */
+    public static <K, V> NgramIndex<K, V> of(final Collection<V> values,
+                                             final Function<V, K> keyOf,
+                                             final Function<V, String> textOf) {
+        final NgramIndex<K, V> index = new NgramIndex<>(keyOf, textOf);
+        values.forEach(index::put);
+        return index;
+    }
+
+    /**
+     * 値を登録（同じキーの既存エントリは置き換える）
+     */
+    public void put(final V value) {
+        final K key = keyOf.apply(value);
+        final String text = normalize(textOf.apply(value));
+
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(key);
+            entries.put(key, new Indexed<>(value, text));
+            for (final String gram : grams(text)) {
+                postings.computeIfAbsent(gram, g -> new HashSet<>()).add(key);
+            }
+            sortedTexts.computeIfAbsent(text, t -> new HashSet<>()).add(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * キーのエントリを削除
+     */
+    public void remove(final K key) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 部分一致検索
+     * 一致度（完全一致 > 前方一致 > 部分一致、同順位は文字列が短いもの）の高い順に最大limit件を返す
+     */
+    public List<V> search(final String query, final int limit) {
+        final String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            final List<Indexed<V>> matches = new ArrayList<>();
+            for (final K key : candidates(normalizedQuery)) {
+                final Indexed<V> entry = entries.get(key);
+                if (entry.text().contains(normalizedQuery)) {
+                    matches.add(entry);
+                }
+            }
+            return matches.stream()
+                .sorted(Comparator.<Indexed<V>>comparingInt(entry -> rank(entry.text(), normalizedQuery))
+                    .thenComparingInt(entry -> entry.text().codePointCount(0, entry.text().length()))
+                    .thenComparing(Indexed::text, CODE_POINT_ORDER))
+                .limit(limit)
+                .map(Indexed::value)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 前方一致検索（オートコンプリート用）
+     * 正規化済み文字列のコードポイント順に最大limit件を返す
+     */
+    public List<V> searchPrefix(final String prefix, final int limit) {
+        final String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            final List<V> result = new ArrayList<>(Math.min(limit, 64));
+            for (final Map.Entry<String, Set<K>> bucket : sortedTexts.tailMap(normalizedPrefix, true).entrySet()) {
+                if (!bucket.getKey().startsWith(normalizedPrefix)) {
+                    break;
+                }
+                for (final K key : bucket.getValue()) {
+                    result.add(entries.get(key).value());
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 検索用の正規化（NFKCで全角英数・半角カナ・全角空白を揃え、小文字化して前後の半角空白を除く）
+     * DB側の {@code btrim(lower(normalize(name, NFKC)))} と同じ手順
+     */
+    public static String normalize(final String text) {
+        if (text == null) {
+            return "";
+        }
+        final String lowered = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int begin = 0;
+        int end = lowered.length();
+        while (begin < end && lowered.charAt(begin) == ' ') {
+            begin++;
+        }
+        while (end > begin && lowered.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return lowered.substring(begin, end);
+    }
+
+    /**
+     * 文字列のユニグラムとバイグラム（コードポイント単位）
+     */
+    static Set<String> grams(final String text) {
+        final int[] codePoints = text.codePoints().toArray();
+        final Set<String> grams = new HashSet<>();
+        for (int i = 0; i < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * クエリの全N-gramを含むキーの集合（小さいポスティングから順に積集合を取る）
+     * 1文字のクエリはユニグラム、2文字以上はバイグラムのみを使う
+     */
+    private Set<K> candidates(final String normalizedQuery) {
+        final int length = normalizedQuery.codePointCount(0, normalizedQuery.length());
+        final List<Set<K>> lists = new ArrayList<>();
+        for (final String gram : grams(normalizedQuery)) {
+            if (length > 1 && gram.codePointCount(0, gram.length()) == 1) {
+                continue;
+            }
+            final Set<K> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        final Set<K> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void removeUnlocked(final K key) {
+        final Indexed<V> existing = entries.remove(key);
+        if (existing == null) {
+            return;
+        }
+        for (final String gram : grams(existing.text())) {
+            final Set<K> posting = postings.get(gram);
+            if (posting != null && posting.remove(key) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        final Set<K> bucket = sortedTexts.get(existing.text());
+        if (bucket != null && bucket.remove(key) && bucket.isEmpty()) {
+            sortedTexts.remove(existing.text());
+        }
+    }
+
+    private static int compareCodePoints(final String left, final String right) {
+        int i = 0;
+        int j = 0;
+        while (i < left.length() && j < right.length()) {
+            final int a = left.codePointAt(i);
+            final int b = right.codePointAt(j);
+            if (a != b) {
+                return Integer.compare(a, b);
+            }
+            i += Character.charCount(a);
+            j += Character.charCount(b);
+        }
+        return Boolean.compare(i < left.length(), j < right.length());
+    }
+
+    private static int rank(final String text, final String query) {
+        if (text.equals(query)) return 0;
+        if (text.startsWith(query)) return 1;
+        return 2;
+    }
+
+    private record Indexed<V>(V value, String text) {
+    }
+}
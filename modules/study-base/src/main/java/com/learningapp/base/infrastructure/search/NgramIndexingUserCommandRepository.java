@@ -0,0 +1,56 @@
+package com.learningapp.base.infrastructure.search;
+
+import com.learningapp.base.domain.entity.User;
+import com.learningapp.base.domain.repository.BatchWriteResult;
+import com.learningapp.base.domain.repository.UserCommandRepository;
+import com.learningapp.base.domain.valueobject.UserId;
+import com.learningapp.base.infrastructure.transaction.TransactionCallbacks;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 書き込みをユーザー名のN-gram索引に反映するUser Command Repository
+ * トランザクション内ではコミット後に反映し、ロールバックされた名前が検索に出ないようにする
+ */
+public class NgramIndexingUserCommandRepository implements UserCommandRepository {
+    
+    private final UserCommandRepository delegate;
+    private final NgramSearchUserQueryRepository searchRepository;
+    
+    public NgramIndexingUserCommandRepository(final UserCommandRepository delegate,
+                                              final NgramSearchUserQueryRepository searchRepository) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate repository must not be null");
+        this.searchRepository = Objects.requireNonNull(searchRepository, "Search repository must not be null");
+    }
+    
+    @Override
+    public void save(final User user) {
+        delegate.save(user);
+        TransactionCallbacks.afterCommit(() -> searchRepository.index(user));
+    }
+    
+    /**
+     * 失敗した行は索引に載せない
+     */
+    @Override
+    public BatchWriteResult saveAll(final List<User> users) {
+        final BatchWriteResult result = delegate.saveAll(users);
+        TransactionCallbacks.afterCommit(() -> result.rows().stream()
+            .filter(BatchWriteResult.RowResult::succeeded)
+            .forEach(row -> searchRepository.index(users.get(row.index()))));
+        return result;
+    }
+    
+    @Override
+    public void delete(final UserId id) {
+        delegate.delete(id);
+        TransactionCallbacks.afterCommit(() -> searchRepository.unindex(id));
+    }
+    
+    @Override
+    public void deletePhysically(final UserId id) {
+        delegate.deletePhysically(id);
+        TransactionCallbacks.afterCommit(() -> searchRepository.unindex(id));
+    }
+}
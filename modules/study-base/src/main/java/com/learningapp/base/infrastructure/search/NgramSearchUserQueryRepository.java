@@ -0,0 +1,170 @@
+package com.learningapp.base.infrastructure.search;
+
+import com.learningapp.base.domain.entity.User;
+import com.learningapp.base.domain.repository.EmailDomainCount;
+import com.learningapp.base.domain.repository.KeysetPage;
+import com.learningapp.base.domain.repository.PageCursor;
+import com.learningapp.base.domain.repository.UserQueryRepository;
+import com.learningapp.base.domain.valueobject.UserId;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 名前検索をインメモリN-gram索引で処理するUser Query Repository
+ * pg_trgmを持たないH2（テストプロファイル）でDB索引の代わりに使うデコレータ
+ * 
+ * 索引は {@link #rebuild()} で全件から構築し、以降は {@link NgramIndexingUserCommandRepository} が書き込みに追従させる
+ * 名前検索以外はそのまま委譲する
+ */
+public class NgramSearchUserQueryRepository implements UserQueryRepository {
+    
+    private final UserQueryRepository source;
+    private volatile NgramIndex<UserId, User> nameIndex = newIndex();
+    
+    /**
+     * 再構築中の索引と、再構築中に書き込みがあったキー（読み直した行で上書きしないため）
+     * 書き込みの反映と読み直した行の登録は writeLock で直列化する
+     */
+    private NgramIndex<UserId, User> rebuilding;
+    private final Set<UserId> writtenDuringRebuild = new HashSet<>();
+    private final Object writeLock = new Object();
+    
+    public NgramSearchUserQueryRepository(final UserQueryRepository source) {
+        this.source = Objects.requireNonNull(source, "Source repository must not be null");
+    }
+    
+    /**
+     * 全ユーザーを読み直して新しい索引を構築し、完成後に差し替える（起動時に呼び出す）
+     * 既存の索引には追加しないため、削除済みのユーザーが残らない。構築中の検索は旧索引で応答する
+     */
+    public synchronized void rebuild() {
+        final NgramIndex<UserId, User> fresh = newIndex();
+        synchronized (writeLock) {
+            rebuilding = fresh;
+            writtenDuringRebuild.clear();
+        }
+        try (Stream<User> users = source.streamAll()) {
+            users.forEach(user -> {
+                synchronized (writeLock) {
+                    if (!writtenDuringRebuild.contains(user.getId())) {
+                        fresh.put(user);
+                    }
+                }
+            });
+            synchronized (writeLock) {
+                nameIndex = fresh;
+            }
+        } finally {
+            synchronized (writeLock) {
+                rebuilding = null;
+                writtenDuringRebuild.clear();
+            }
+        }
+    }
+    
+    void index(final User user) {
+        synchronized (writeLock) {
+            nameIndex.put(user);
+            if (rebuilding != null) {
+                rebuilding.put(user);
+                writtenDuringRebuild.add(user.getId());
+            }
+        }
+    }
+    
+    void unindex(final UserId id) {
+        synchronized (writeLock) {
+            nameIndex.remove(id);
+            if (rebuilding != null) {
+                rebuilding.remove(id);
+                writtenDuringRebuild.add(id);
+            }
+        }
+    }
+    
+    private static NgramIndex<UserId, User> newIndex() {
+        return new NgramIndex<>(User::getId, User::getName);
+    }
+    
+    @Override
+    public List<User> searchByName(final String query, final int limit) {
+        return nameIndex.search(query, limit);
+    }
+    
+    @Override
+    public List<User> findByNamePrefix(final String prefix, final int limit) {
+        return nameIndex.searchPrefix(prefix, limit);
+    }
+    
+    @Override
+    @Deprecated
+    public List<User> findByNameContaining(final String name) {
+        return nameIndex.search(name, Integer.MAX_VALUE);
+    }
+    
+    @Override
+    public Optional<User> findById(final UserId id) {
+        return source.findById(id);
+    }
+    
+    @Override
+    public List<User> findAllById(final List<UserId> ids) {
+        return source.findAllById(ids);
+    }
+    
+    @Override
+    public List<User> findAll() {
+        return source.findAll();
+    }
+    
+    @Override
+    public Stream<User> streamAll() {
+        return source.streamAll();
+    }
+    
+    @Override
+    public boolean existsById(final UserId id) {
+        return source.existsById(id);
+    }
+    
+    @Override
+    public long count() {
+        return source.count();
+    }
+    
+    @Override
+    public KeysetPage<User> findPage(final PageCursor after, final int limit) {
+        return source.findPage(after, limit);
+    }
+    
+    @Override
+    public Optional<User> findByEmail(final String email) {
+        return source.findByEmail(email);
+    }
+    
+    @Override
+    public Set<String> findExistingEmails(final Collection<String> emails) {
+        return source.findExistingEmails(emails);
+    }
+    
+    @Override
+    public List<User> findByEmailDomain(final String domain) {
+        return source.findByEmailDomain(domain);
+    }
+    
+    @Override
+    public long countByEmailDomain(final String domain) {
+        return source.countByEmailDomain(domain);
+    }
+    
+    @Override
+    public List<EmailDomainCount> findEmailDomainCounts(final boolean corporate, final int limit) {
+        return source.findEmailDomainCounts(corporate, limit);
+    }
+}
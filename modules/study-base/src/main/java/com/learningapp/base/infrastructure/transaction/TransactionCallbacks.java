@@ -0,0 +1,30 @@
+package com.learningapp.base.infrastructure.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * キャッシュ・索引の更新をトランザクション境界に合わせるためのユーティリティ
+ */
+public final class TransactionCallbacks {
+    
+    private TransactionCallbacks() {
+    }
+    
+    /**
+     * トランザクション中ならコミット後に、そうでなければ即時に実行する
+     */
+    public static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
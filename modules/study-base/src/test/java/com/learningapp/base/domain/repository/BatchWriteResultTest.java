@@ -0,0 +1,95 @@
+package com.learningapp.base.domain.repository;
+
+import com.learningapp.base.domain.repository.BatchWriteResult.RowResult;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchWriteResultTest {
+    
+    @Test
+    void splitsIntoChunksAndKeepsInputOrder() {
+        final List<List<Integer>> chunks = new ArrayList<>();
+        
+        final BatchWriteResult result = BatchWriteResult.writeInChunks(range(7), 3, chunk -> {
+            chunks.add(List.copyOf(chunk));
+            return ones(chunk.size());
+        });
+        
+        assertThat(chunks).containsExactly(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6));
+        assertThat(result.rows()).extracting(RowResult::index).containsExactly(0, 1, 2, 3, 4, 5, 6);
+        assertThat(result.isAllSucceeded()).isTrue();
+    }
+    
+    @Test
+    void stopsAfterFailedChunkAndMarksRemainingRowsNotAttempted() {
+        final List<List<Integer>> chunks = new ArrayList<>();
+        
+        final BatchWriteResult result = BatchWriteResult.writeInChunks(range(10), 3, chunk -> {
+            chunks.add(List.copyOf(chunk));
+            if (chunk.contains(4)) {
+                throw new IllegalStateException("duplicate key");
+            }
+            return ones(chunk.size());
+        });
+        
+        // 失敗したチャンク（3-5）の後のチャンクは実行しない
+        assertThat(chunks).containsExactly(List.of(0, 1, 2), List.of(3, 4, 5));
+        assertThat(result.rows()).extracting(RowResult::index)
+            .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(result.successCount()).isEqualTo(3);
+        assertThat(result.rows().subList(0, 3)).allMatch(RowResult::succeeded);
+        assertThat(result.rows().subList(3, 6))
+            .allSatisfy(row -> {
+                assertThat(row.succeeded()).isFalse();
+                assertThat(row.errorMessage()).isEqualTo("duplicate key");
+            });
+        assertThat(result.rows().subList(6, 10))
+            .allSatisfy(row -> {
+                assertThat(row.succeeded()).isFalse();
+                assertThat(row.errorMessage()).isEqualTo(BatchWriteResult.NOT_ATTEMPTED_MESSAGE);
+            });
+    }
+    
+    @Test
+    void failureInLastChunkLeavesNoNotAttemptedRows() {
+        final BatchWriteResult result = BatchWriteResult.writeInChunks(range(5), 2, chunk -> {
+            if (chunk.contains(4)) {
+                throw new IllegalStateException("boom");
+            }
+            return ones(chunk.size());
+        });
+        
+        assertThat(result.failures()).extracting(RowResult::index).containsExactly(4);
+        assertThat(result.failures()).extracting(RowResult::errorMessage).containsExactly("boom");
+    }
+    
+    @Test
+    void mapsUpdateCountsToRowResults() {
+        final BatchWriteResult result = BatchWriteResult.fromUpdateCounts(10,
+            new int[] {1, Statement.SUCCESS_NO_INFO, Statement.EXECUTE_FAILED, 0});
+        
+        assertThat(result.rows()).extracting(RowResult::index).containsExactly(10, 11, 12, 13);
+        assertThat(result.rows()).extracting(RowResult::succeeded).containsExactly(true, true, false, false);
+    }
+    
+    @Test
+    void rejectsNonPositiveBatchSize() {
+        assertThatThrownBy(() -> BatchWriteResult.writeInChunks(range(1), 0, chunk -> ones(chunk.size())))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    private static List<Integer> range(final int size) {
+        return IntStream.range(0, size).boxed().toList();
+    }
+    
+    private static int[] ones(final int size) {
+        return IntStream.range(0, size).map(i -> 1).toArray();
+    }
+}
@@ -0,0 +1,198 @@
+package com.learningapp.base.domain.service;
+
+import com.learningapp.base.domain.entity.User;
+import com.learningapp.base.domain.factory.UserFactory;
+import com.learningapp.base.domain.repository.BatchWriteResult;
+import com.learningapp.base.domain.repository.UserCommandRepository;
+import com.learningapp.base.domain.repository.UserQueryRepository;
+import com.learningapp.base.domain.validator.EmailValidator;
+import com.learningapp.base.domain.validator.NameValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserBulkImportServiceTest {
+    
+    private UserQueryRepository userQueryRepository;
+    private UserCommandRepository userCommandRepository;
+    private UserBulkImportService service;
+    
+    /** saveAll に渡されたチャンク（呼び出し順） */
+    private final List<List<User>> savedChunks = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        userQueryRepository = mock(UserQueryRepository.class);
+        userCommandRepository = mock(UserCommandRepository.class);
+        service = new UserBulkImportService(
+            new UserFactory(new NameValidator(), new EmailValidator()), userQueryRepository, userCommandRepository);
+        
+        when(userQueryRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(userCommandRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            final List<User> users = invocation.getArgument(0);
+            savedChunks.add(List.copyOf(users));
+            return BatchWriteResult.writeInChunks(users, BatchWriteResult.DEFAULT_BATCH_SIZE, chunk -> {
+                final int[] counts = new int[chunk.size()];
+                Arrays.fill(counts, 1);
+                return counts;
+            });
+        });
+    }
+    
+    @Test
+    void importCsv_skipsHeaderAndBlankLines() {
+        final UserImportReport report = service.importCsv(new StringReader("""
+            name,email
+            山田太郎,taro@example.com
+            
+            佐藤花子,hanako@example.com
+            """));
+        
+        assertThat(report.totalRows()).isEqualTo(2);
+        assertThat(report.importedCount()).isEqualTo(2);
+        assertThat(report.hasErrors()).isFalse();
+        assertThat(savedChunks).hasSize(1);
+        assertThat(savedChunks.get(0)).extracting(User::getName).containsExactly("山田太郎", "佐藤花子");
+    }
+    
+    @Test
+    void importCsv_handlesQuotedFieldsAndEscapedQuotes() {
+        final UserImportReport report = service.importCsv(new StringReader("""
+            name,email
+            "Yamada, Taro",taro@example.com
+            "Hanako ""Hana"" Sato",hanako@example.com
+            """));
+        
+        assertThat(report.importedCount()).isEqualTo(2);
+        assertThat(savedChunks.get(0)).extracting(User::getName)
+            .containsExactly("Yamada, Taro", "Hanako \"Hana\" Sato");
+    }
+    
+    @Test
+    void importCsv_reportsRowsWithMissingColumnsOrInvalidValues() {
+        final UserImportReport report = service.importCsv(new StringReader("""
+            name,email
+            列不足
+            山田太郎,not-an-email
+            ,empty-name@example.com
+            佐藤花子,hanako@example.com
+            """));
+        
+        assertThat(report.totalRows()).isEqualTo(4);
+        assertThat(report.importedCount()).isEqualTo(1);
+        assertThat(report.errors()).extracting(UserImportReport.RowError::lineNumber).containsExactly(2L, 3L, 4L);
+        assertThat(report.errors()).extracting(UserImportReport.RowError::message).containsExactly(
+            "name,email の2列が必要です", "有効なメールアドレスを入力してください", "名前は必須です");
+    }
+    
+    @Test
+    void importCsv_rejectsDuplicatesWithinFileAndExistingEmails() {
+        when(userQueryRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("existing@example.com"));
+        
+        final UserImportReport report = service.importCsv(new StringReader("""
+            name,email
+            山田太郎,taro@example.com
+            山田太郎2,TARO@example.com
+            既存ユーザー,existing@example.com
+            """));
+        
+        assertThat(report.importedCount()).isEqualTo(1);
+        assertThat(report.errors()).containsExactly(
+            new UserImportReport.RowError(3, "taro@example.com", "ファイル内でメールアドレスが重複しています"),
+            new UserImportReport.RowError(4, "existing@example.com", "既に登録されているメールアドレスです"));
+    }
+    
+    @Test
+    void importCsv_writesInChunksOfOneThousandRows() {
+        final StringBuilder csv = new StringBuilder("name,email\n");
+        for (int i = 0; i < 2_500; i++) {
+            csv.append("user").append(i).append(",user").append(i).append("@example.com\n");
+        }
+        
+        final UserImportReport report = service.importCsv(new StringReader(csv.toString()));
+        
+        assertThat(report.totalRows()).isEqualTo(2_500);
+        assertThat(report.importedCount()).isEqualTo(2_500);
+        assertThat(savedChunks).extracting(List::size).containsExactly(1_000, 1_000, 500);
+    }
+    
+    @Test
+    void importCsv_duplicateDetectionSpansChunks() {
+        final StringBuilder csv = new StringBuilder("name,email\n");
+        for (int i = 0; i < 1_000; i++) {
+            csv.append("user").append(i).append(",user").append(i).append("@example.com\n");
+        }
+        csv.append("again,user0@example.com\n");
+        
+        final UserImportReport report = service.importCsv(new StringReader(csv.toString()));
+        
+        assertThat(report.importedCount()).isEqualTo(1_000);
+        assertThat(report.errors()).containsExactly(
+            new UserImportReport.RowError(1_002, "user0@example.com", "ファイル内でメールアドレスが重複しています"));
+        assertThat(savedChunks).hasSize(1);
+    }
+    
+    @Test
+    void importCsv_reportsRowsFailedByTheWriter() {
+        when(userCommandRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            final List<User> users = invocation.getArgument(0);
+            return BatchWriteResult.writeInChunks(users, 1, chunk -> {
+                if (chunk.get(0).getEmail().startsWith("broken")) {
+                    throw new IllegalStateException("duplicate key");
+                }
+                return new int[] {1};
+            });
+        });
+        
+        final UserImportReport report = service.importCsv(new StringReader("""
+            name,email
+            山田太郎,taro@example.com
+            壊れた行,broken@example.com
+            佐藤花子,hanako@example.com
+            """));
+        
+        assertThat(report.importedCount()).isEqualTo(1);
+        assertThat(report.errors()).containsExactly(
+            new UserImportReport.RowError(3, "broken@example.com", "duplicate key"),
+            new UserImportReport.RowError(4, "hanako@example.com", BatchWriteResult.NOT_ATTEMPTED_MESSAGE));
+    }
+    
+    @Test
+    void importNdjson_parsesObjectsAndReportsMalformedLines() {
+        final UserImportReport report = service.importNdjson(new StringReader("""
+            {"name": "山田太郎", "email": "taro@example.com"}
+            {"name": "佐藤花子", 
+            {"email": "noname@example.com"}
+            """));
+        
+        assertThat(report.totalRows()).isEqualTo(3);
+        assertThat(report.importedCount()).isEqualTo(1);
+        assertThat(report.errors()).extracting(UserImportReport.RowError::message)
+            .containsExactly("JSONとして解析できません", "名前は必須です");
+    }
+    
+    @Test
+    void importCsv_withNoValidRows_doesNotTouchRepositories() {
+        final UserImportReport report = service.importCsv(new StringReader("""
+            name,email
+            山田太郎,invalid
+            """));
+        
+        assertThat(report.importedCount()).isZero();
+        verify(userQueryRepository, never()).findExistingEmails(anyCollection());
+        verify(userCommandRepository, never()).saveAll(anyList());
+    }
+}
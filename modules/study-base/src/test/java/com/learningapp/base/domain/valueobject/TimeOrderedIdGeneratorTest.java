@@ -0,0 +1,83 @@
+package com.learningapp.base.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTest {
+    
+    @Test
+    void generatesVersion7WithRfc4122Variant() {
+        for (int i = 0; i < 1_000; i++) {
+            final UUID uuid = TimeOrderedIdGenerator.nextUuid();
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+        }
+    }
+    
+    @Test
+    void timestampIsEpochMillis() {
+        final long before = System.currentTimeMillis();
+        final UUID uuid = TimeOrderedIdGenerator.nextUuid();
+        final long after = System.currentTimeMillis();
+        
+        // 直前の生成でカウンタが溢れていると実時刻より先に進んでいることがある
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after + 1_000);
+    }
+    
+    @Test
+    void idsAreStrictlyIncreasingWithinOneMillisecond() {
+        final int count = 10_000;
+        final long[] mostSignificantBits = new long[count];
+        for (int i = 0; i < count; i++) {
+            mostSignificantBits[i] = TimeOrderedIdGenerator.nextUuid().getMostSignificantBits();
+        }
+        
+        int sameMillisecond = 0;
+        for (int i = 1; i < count; i++) {
+            assertThat(Long.compareUnsigned(mostSignificantBits[i - 1], mostSignificantBits[i])).isNegative();
+            if (mostSignificantBits[i - 1] >>> 16 == mostSignificantBits[i] >>> 16) {
+                sameMillisecond++;
+            }
+        }
+        // 1万件は数msで生成されるため、同一ミリ秒内の順序も検証できている
+        assertThat(sameMillisecond).isPositive();
+    }
+    
+    @Test
+    void staleCandidateWithinSameMillisecondIncrementsCounter() {
+        final long millis = 1_700_000_000_000L;
+        final long last = (millis << 12) | 0x3FF;
+        
+        final long next = TimeOrderedIdGenerator.advance(last, (millis << 12) | 0x005);
+        
+        assertThat(next).isEqualTo((millis << 12) | 0x400);
+        assertThat(TimeOrderedIdGenerator.toMostSignificantBits(next))
+            .isEqualTo((millis << 16) | (0x7L << 12) | 0x400);
+    }
+    
+    @Test
+    void counterOverflowRollsIntoNextTimestamp() {
+        final long millis = 1_700_000_000_000L;
+        final long last = (millis << 12) | 0xFFF;
+        
+        final long next = TimeOrderedIdGenerator.advance(last, (millis << 12) | 0x123);
+        final long mostSignificantBits = TimeOrderedIdGenerator.toMostSignificantBits(next);
+        
+        assertThat(mostSignificantBits >>> 16).isEqualTo(millis + 1);
+        assertThat(mostSignificantBits & 0xFFFL).isZero();
+        assertThat((mostSignificantBits >>> 12) & 0xFL).isEqualTo(7);
+        assertThat(Long.compareUnsigned(TimeOrderedIdGenerator.toMostSignificantBits(last), mostSignificantBits)).isNegative();
+    }
+    
+    @Test
+    void laterClockWinsOverCounter() {
+        final long millis = 1_700_000_000_000L;
+        final long last = (millis << 12) | 0x800;
+        final long candidate = ((millis + 1) << 12) | 0x001;
+        
+        assertThat(TimeOrderedIdGenerator.advance(last, candidate)).isEqualTo(candidate);
+    }
+}
@@ -0,0 +1,168 @@
+package com.learningapp.base.infrastructure.cache;
+
+import com.learningapp.base.domain.entity.User;
+import com.learningapp.base.domain.factory.UserFactory;
+import com.learningapp.base.domain.repository.UserQueryRepository;
+import com.learningapp.base.domain.validator.EmailValidator;
+import com.learningapp.base.domain.validator.NameValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingUserQueryRepositoryTest {
+    
+    private final UserFactory userFactory = new UserFactory(new NameValidator(), new EmailValidator());
+    private final UserQueryRepository source = mock(UserQueryRepository.class);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void cachesHitsAndMissesAndCrossPopulatesOtherKey() {
+        final User taro = userFactory.createNewUser("山田太郎", "taro@example.com");
+        when(source.findById(taro.getId())).thenReturn(Optional.of(taro));
+        when(source.findByEmail("nobody@example.com")).thenReturn(Optional.empty());
+        final CachingUserQueryRepository repository = new CachingUserQueryRepository(source);
+        
+        assertThat(repository.findById(taro.getId())).contains(taro);
+        assertThat(repository.findById(taro.getId())).contains(taro);
+        assertThat(repository.findByEmail("Taro@Example.com")).contains(taro);
+        assertThat(repository.findByEmail("nobody@example.com")).isEmpty();
+        assertThat(repository.findByEmail("nobody@example.com")).isEmpty();
+        
+        verify(source, times(1)).findById(taro.getId());
+        verify(source, times(0)).findByEmail("taro@example.com");
+        verify(source, times(1)).findByEmail("nobody@example.com");
+        assertThat(repository.getStats().negativeHitCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void invalidateRemovesIdNewEmailAndPreviouslyCachedEmail() {
+        final User taro = userFactory.createNewUser("山田太郎", "taro@example.com");
+        final User renamed = taro.updateProfile("山田太郎", "yamada@example.com");
+        when(source.findById(taro.getId())).thenReturn(Optional.of(taro), Optional.of(renamed));
+        when(source.findByEmail("yamada@example.com")).thenReturn(Optional.empty(), Optional.of(renamed));
+        when(source.findByEmail("taro@example.com")).thenReturn(Optional.empty());
+        final CachingUserQueryRepository repository = new CachingUserQueryRepository(source);
+        repository.findById(taro.getId());
+        assertThat(repository.findByEmail("yamada@example.com")).isEmpty();
+        
+        repository.invalidate(renamed.getId(), renamed.getEmail());
+        
+        assertThat(repository.findById(taro.getId())).contains(renamed);
+        assertThat(repository.findByEmail("yamada@example.com")).contains(renamed);
+        assertThat(repository.findByEmail("taro@example.com")).isEmpty();
+    }
+    
+    @Test
+    void emailInvalidationDuringIdLoadDropsStaleCrossPopulatedEntries() throws Exception {
+        final User stale = userFactory.createNewUser("山田太郎", "taro@example.com");
+        final User fresh = stale.updateProfile("佐藤太郎", "taro@example.com");
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(source.findById(stale.getId()))
+            .thenAnswer(invocation -> {
+                loading.countDown();
+                assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                return Optional.of(stale);
+            })
+            .thenReturn(Optional.of(fresh));
+        when(source.findByEmail("taro@example.com")).thenReturn(Optional.of(fresh));
+        final CachingUserQueryRepository repository = new CachingUserQueryRepository(source);
+        
+        final Future<Optional<User>> load = executor.submit(() -> repository.findById(stale.getId()));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        // 読み込み中のコミット後の無効化（読み込み中のIDのエントリには触れない）
+        repository.invalidate(null, "taro@example.com");
+        release.countDown();
+        assertThat(load.get(5, TimeUnit.SECONDS)).contains(stale);
+        
+        // 読み込みで載せた古い値（ID・メールアドレスの両方）は残らない
+        assertThat(repository.findById(stale.getId())).contains(fresh);
+        assertThat(repository.findByEmail("taro@example.com")).contains(fresh);
+        verify(source, times(2)).findById(stale.getId());
+    }
+    
+    @Test
+    void idInvalidationDuringEmailLoadDropsStaleIdEntry() throws Exception {
+        final User stale = userFactory.createNewUser("山田太郎", "taro@example.com");
+        final User fresh = stale.updateProfile("佐藤太郎", "taro@example.com");
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(source.findByEmail("taro@example.com"))
+            .thenAnswer(invocation -> {
+                loading.countDown();
+                assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                return Optional.of(stale);
+            })
+            .thenReturn(Optional.of(fresh));
+        when(source.findById(stale.getId())).thenReturn(Optional.of(fresh));
+        final CachingUserQueryRepository repository = new CachingUserQueryRepository(source);
+        
+        final Future<Optional<User>> load = executor.submit(() -> repository.findByEmail("taro@example.com"));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        repository.invalidate(stale.getId(), null);
+        release.countDown();
+        assertThat(load.get(5, TimeUnit.SECONDS)).contains(stale);
+        
+        assertThat(repository.findByEmail("taro@example.com")).contains(fresh);
+        assertThat(repository.findById(stale.getId())).contains(fresh);
+        verify(source, times(2)).findByEmail("taro@example.com");
+    }
+    
+    @Test
+    void loadWithoutConcurrentInvalidationStaysCached() {
+        final User taro = userFactory.createNewUser("山田太郎", "taro@example.com");
+        when(source.findById(taro.getId())).thenReturn(Optional.of(taro));
+        final CachingUserQueryRepository repository = new CachingUserQueryRepository(source);
+        
+        repository.findById(taro.getId());
+        repository.invalidate(null, "other@example.com");
+        repository.findById(taro.getId());
+        
+        // 読み込み完了後の無関係な無効化ではエントリを取り消さない
+        verify(source, times(1)).findById(taro.getId());
+    }
+    
+    @Test
+    void invalidationsArePublishedAndAppliedOnPeers() {
+        final User taro = userFactory.createNewUser("山田太郎", "taro@example.com");
+        final User renamed = taro.updateProfile("山田太郎", "yamada@example.com");
+        final UserQueryRepository peerSource = mock(UserQueryRepository.class);
+        when(peerSource.findById(taro.getId())).thenReturn(Optional.of(taro), Optional.of(renamed));
+        when(peerSource.findByEmail("taro@example.com")).thenReturn(Optional.empty());
+        final List<String> published = new ArrayList<>();
+        final CachingUserQueryRepository repository = new CachingUserQueryRepository(source, published::add);
+        final CachingUserQueryRepository peer = new CachingUserQueryRepository(peerSource);
+        peer.findById(taro.getId());
+        
+        repository.invalidate(renamed.getId(), "Yamada@Example.com");
+        repository.invalidateAll();
+        peer.onPeerInvalidation(published.get(0));
+        
+        assertThat(published).hasSize(2);
+        assertThat(published.get(1)).isNull();
+        // 旧アドレスのエントリはピア自身の逆引きから特定される
+        assertThat(peer.findById(taro.getId())).contains(renamed);
+        assertThat(peer.findByEmail("taro@example.com")).isEmpty();
+        verify(peerSource, times(2)).findById(taro.getId());
+        verify(peerSource, times(1)).findByEmail("taro@example.com");
+    }
+}
@@ -0,0 +1,161 @@
+package com.learningapp.base.infrastructure.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+    
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void concurrentCallersShareTheLeadersResult() throws Exception {
+        final SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(5));
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger loads = new AtomicInteger();
+        
+        final Future<String> leader = executor.submit(() -> flight.execute("k", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "value";
+        }));
+        waitUntil(() -> flight.getStats().inFlight() == 1);
+        final Future<String> follower = executor.submit(() -> flight.execute("k", () -> "follower-" + loads.incrementAndGet()));
+        waitUntil(() -> flight.getStats().collapsed() == 1);
+        release.countDown();
+        
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        assertThat(flight.getStats()).isEqualTo(new SingleFlight.Stats(1, 1, 0, 0));
+    }
+    
+    @Test
+    void followerRunsLoaderItselfWhenLeaderExceedsMaxWait() throws Exception {
+        final SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofMillis(50));
+        final CountDownLatch release = new CountDownLatch(1);
+        
+        final Future<String> leader = executor.submit(() -> flight.execute("k", () -> {
+            await(release);
+            return "leader";
+        }));
+        waitUntil(() -> flight.getStats().inFlight() == 1);
+        
+        assertThat(flight.execute("k", () -> "own")).isEqualTo("own");
+        assertThat(flight.getStats().waitTimeouts()).isEqualTo(1);
+        assertThat(flight.getStats().executions()).isEqualTo(2);
+        
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+        assertThat(flight.getStats().inFlight()).isZero();
+    }
+    
+    @Test
+    void leaderFailureIsRethrownToFollowersAndNotRemembered() throws Exception {
+        final SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(5));
+        final CountDownLatch release = new CountDownLatch(1);
+        final IllegalStateException failure = new IllegalStateException("DB unavailable");
+        
+        final Future<String> leader = executor.submit(() -> flight.execute("k", () -> {
+            await(release);
+            throw failure;
+        }));
+        waitUntil(() -> flight.getStats().inFlight() == 1);
+        final Future<String> follower = executor.submit(() -> flight.execute("k", () -> "unused"));
+        waitUntil(() -> flight.getStats().collapsed() == 1);
+        release.countDown();
+        
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class).hasCauseReference(failure);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class).hasCauseReference(failure);
+        
+        // 失敗は保持しないため、次の呼び出しは再びローダーを実行する
+        assertThat(flight.getStats().inFlight()).isZero();
+        assertThat(flight.execute("k", () -> "recovered")).isEqualTo("recovered");
+    }
+    
+    @Test
+    void completedCallsAreNotCached() {
+        final SingleFlight<String, Integer> flight = new SingleFlight<>(Duration.ofSeconds(1));
+        final AtomicInteger loads = new AtomicInteger();
+        
+        flight.execute("k", loads::incrementAndGet);
+        flight.execute("k", loads::incrementAndGet);
+        
+        assertThat(loads).hasValue(2);
+        assertThat(flight.getStats().collapsed()).isZero();
+    }
+    
+    @Test
+    void interruptedFollowerFailsAndKeepsInterruptFlag() throws Exception {
+        final SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(30));
+        final CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> flight.execute("k", () -> {
+            await(release);
+            return "leader";
+        }));
+        waitUntil(() -> flight.getStats().inFlight() == 1);
+        
+        final AtomicBoolean interruptFlag = new AtomicBoolean();
+        final Thread followerThread = new Thread(() -> {
+            try {
+                flight.execute("k", () -> "unused");
+            } catch (IllegalStateException e) {
+                interruptFlag.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        followerThread.start();
+        waitUntil(() -> flight.getStats().collapsed() == 1);
+        followerThread.interrupt();
+        followerThread.join(5_000);
+        release.countDown();
+        
+        assertThat(interruptFlag).isTrue();
+    }
+    
+    @Test
+    void rejectsNonPositiveMaxWait() {
+        assertThatThrownBy(() -> new SingleFlight<>(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SingleFlight<>(Duration.ofMillis(-1))).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    private static void await(final CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Latch was not released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5s");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.learningapp.base.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikePatternsTest {
+    
+    @Test
+    void escapesWildcardsAndEscapeCharacter() {
+        assertThat(LikePatterns.escape("100%_a\\b")).isEqualTo("100\\%\\_a\\\\b");
+        assertThat(LikePatterns.escape("山田")).isEqualTo("山田");
+    }
+    
+    @Test
+    void buildsContainsAndPrefixPatterns() {
+        assertThat(LikePatterns.contains("_")).isEqualTo("%\\_%");
+        assertThat(LikePatterns.startsWith("a%")).isEqualTo("a\\%%");
+    }
+}
@@ -0,0 +1,148 @@
+package com.learningapp.base.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+    
+    private record Entry(int id, String name) {}
+    
+    private static NgramIndex<Integer, Entry> indexOf(final String... names) {
+        final List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            entries.add(new Entry(i, names[i]));
+        }
+        return NgramIndex.of(entries, Entry::id, Entry::name);
+    }
+    
+    private static List<String> names(final List<Entry> entries) {
+        return entries.stream().map(Entry::name).toList();
+    }
+    
+    @Test
+    void grams_areUnigramsAndBigramsByCodePoint() {
+        assertThat(NgramIndex.grams("abc")).containsExactlyInAnyOrder("a", "b", "c", "ab", "bc");
+        assertThat(NgramIndex.grams("𠮷野")).containsExactlyInAnyOrder("𠮷", "野", "𠮷野");
+    }
+    
+    @Test
+    void search_findsTwoCharacterJapaneseSubstrings() {
+        final NgramIndex<Integer, Entry> index = indexOf("山田太郎", "太郎丸", "佐藤花子");
+        
+        assertThat(names(index.search("太郎", 10))).containsExactly("太郎丸", "山田太郎");
+        assertThat(names(index.search("田太", 10))).containsExactly("山田太郎");
+    }
+    
+    @Test
+    void search_singleCharacterUsesUnigrams() {
+        final NgramIndex<Integer, Entry> index = indexOf("山田太郎", "佐藤花子", "田中");
+        
+        assertThat(names(index.search("田", 10))).containsExactly("田中", "山田太郎");
+    }
+    
+    @Test
+    void search_requiresContiguousMatchNotJustSharedBigrams() {
+        final NgramIndex<Integer, Entry> index = indexOf("abxbc", "zabc");
+        
+        assertThat(names(index.search("abc", 10))).containsExactly("zabc");
+    }
+    
+    @Test
+    void search_ranksExactThenPrefixThenShorterNames() {
+        final NgramIndex<Integer, Entry> index = indexOf("山田花子", "山田", "小山田", "山田太郎丸");
+        
+        assertThat(names(index.search("山田", 10))).containsExactly("山田", "山田花子", "山田太郎丸", "小山田");
+        assertThat(names(index.search("山田", 2))).containsExactly("山田", "山田花子");
+    }
+    
+    @Test
+    void search_normalizesWidthAndCase() {
+        final NgramIndex<Integer, Entry> index = indexOf("ＡＢＣ商事", "ﾀﾛｳ");
+        
+        assertThat(names(index.search("abc", 10))).containsExactly("ＡＢＣ商事");
+        assertThat(names(index.search("タロ", 10))).containsExactly("ﾀﾛｳ");
+    }
+    
+    @Test
+    void search_blankQueryOrNonPositiveLimitReturnsNothing() {
+        final NgramIndex<Integer, Entry> index = indexOf("山田太郎");
+        
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+        assertThat(index.search("山田", 0)).isEmpty();
+    }
+    
+    @Test
+    void put_replacesExistingEntryAndItsGrams() {
+        final NgramIndex<Integer, Entry> index = indexOf("山田太郎");
+        
+        index.put(new Entry(0, "佐藤花子"));
+        
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("山田", 10)).isEmpty();
+        assertThat(index.searchPrefix("山", 10)).isEmpty();
+        assertThat(names(index.search("花子", 10))).containsExactly("佐藤花子");
+    }
+    
+    @Test
+    void remove_dropsEntryFromBothIndexes() {
+        final NgramIndex<Integer, Entry> index = indexOf("山田太郎", "山田花子");
+        
+        index.remove(0);
+        
+        assertThat(names(index.search("山田", 10))).containsExactly("山田花子");
+        assertThat(names(index.searchPrefix("山田", 10))).containsExactly("山田花子");
+    }
+    
+    @Test
+    void searchPrefix_returnsMatchesInDictionaryOrderUpToLimit() {
+        final NgramIndex<Integer, Entry> index = indexOf("suzuki", "sato", "Saito", "tanaka");
+        
+        assertThat(names(index.searchPrefix("S", 10))).containsExactly("Saito", "sato", "suzuki");
+        assertThat(names(index.searchPrefix("sa", 1))).containsExactly("Saito");
+        assertThat(index.searchPrefix("x", 10)).isEmpty();
+    }
+    
+    @Test
+    void normalize_appliesNfkcLowercaseAndTrimsHalfWidthSpaces() {
+        assertThat(NgramIndex.normalize("\u3000ＴＡＲＯ ﾔﾏﾀﾞ ")).isEqualTo("taro ヤマダ");
+        assertThat(NgramIndex.normalize(null)).isEmpty();
+    }
+    
+    @Test
+    void search_treatsLikeMetacharactersLiterally() {
+        final NgramIndex<Integer, Entry> index = indexOf("100%達成", "a_b", "abc", "ab");
+        
+        assertThat(names(index.search("%", 10))).containsExactly("100%達成");
+        assertThat(names(index.search("_", 10))).containsExactly("a_b");
+        assertThat(names(index.searchPrefix("a_", 10))).containsExactly("a_b");
+    }
+    
+    @Test
+    void search_matchesFullWidthQueryAgainstHalfWidthName() {
+        final NgramIndex<Integer, Entry> index = indexOf("Taro Yamada", "花子");
+        
+        assertThat(names(index.search("ｙａｍａ", 10))).containsExactly("Taro Yamada");
+    }
+    
+    @Test
+    void search_breaksTiesByCodePointOrderLikeCollateC() {
+        // UTF-16単位の比較では補助文字（サロゲート）が U+E000 より前になる
+        final NgramIndex<Integer, Entry> index = indexOf("a\uD842\uDFB7", "a\uE000");
+        
+        assertThat(names(index.search("a", 10))).containsExactly("a\uE000", "a\uD842\uDFB7");
+        assertThat(names(index.searchPrefix("a", 10))).containsExactly("a\uE000", "a\uD842\uDFB7");
+    }
+    
+    @Test
+    void search_ordersByCodePointLengthNotUtf16Length() {
+        final NgramIndex<Integer, Entry> index = indexOf("x\uD842\uDFB7", "xab");
+        
+        // 𠮷 はUTF-16では2単位だが1文字として数える
+        assertThat(names(index.search("x", 10))).containsExactly("x\uD842\uDFB7", "xab");
+    }
+}
@@ -0,0 +1,64 @@
+package com.learningapp.base.infrastructure.search;
+
+import com.learningapp.base.domain.entity.User;
+import com.learningapp.base.domain.factory.UserFactory;
+import com.learningapp.base.domain.repository.UserQueryRepository;
+import com.learningapp.base.domain.validator.EmailValidator;
+import com.learningapp.base.domain.validator.NameValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NgramSearchUserQueryRepositoryTest {
+    
+    private final UserFactory userFactory = new UserFactory(new NameValidator(), new EmailValidator());
+    
+    @Test
+    void rebuild_replacesIndexSoDeletedUsersDisappear() {
+        final User taro = userFactory.createNewUser("山田太郎", "taro@example.com");
+        final User hanako = userFactory.createNewUser("山田花子", "hanako@example.com");
+        final UserQueryRepository source = mock(UserQueryRepository.class);
+        when(source.streamAll()).thenReturn(Stream.of(taro, hanako), Stream.of(hanako));
+        final NgramSearchUserQueryRepository repository = new NgramSearchUserQueryRepository(source);
+        
+        repository.rebuild();
+        assertThat(repository.searchByName("山田", 10)).hasSize(2);
+        
+        repository.rebuild();
+        assertThat(repository.searchByName("山田", 10)).containsExactly(hanako);
+    }
+    
+    @Test
+    void rebuild_keepsWritesMadeWhileReloading() {
+        final User taro = userFactory.createNewUser("山田太郎", "taro@example.com");
+        final User renamed = taro.updateProfile("佐藤太郎", "taro@example.com");
+        final UserQueryRepository source = mock(UserQueryRepository.class);
+        final NgramSearchUserQueryRepository repository = new NgramSearchUserQueryRepository(source);
+        // 読み直し中にコミットされた改名は、読み直した旧い行より優先される
+        when(source.streamAll()).thenAnswer(invocation -> {
+            repository.index(renamed);
+            return Stream.of(taro);
+        });
+        
+        repository.rebuild();
+        
+        assertThat(repository.searchByName("山田", 10)).isEmpty();
+        assertThat(repository.searchByName("太郎", 10)).containsExactly(renamed);
+    }
+    
+    @Test
+    void searchByName_matchesShortQueriesAsSubstrings() {
+        final User taro = userFactory.createNewUser("山田太郎", "taro@example.com");
+        final UserQueryRepository source = mock(UserQueryRepository.class);
+        when(source.streamAll()).thenReturn(Stream.of(taro));
+        final NgramSearchUserQueryRepository repository = new NgramSearchUserQueryRepository(source);
+        repository.rebuild();
+        
+        assertThat(repository.searchByName("太郎", 10)).containsExactly(taro);
+        assertThat(repository.findByNamePrefix("太郎", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.learningapp.bench;
+
+import com.learningapp.plan.domain.entity.StudyGoal;
+import com.learningapp.plan.domain.strategy.DifficultyStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 難易度判定（DifficultyStrategy）のベンチマーク
+ * 全難易度帯に散らばる入力で1回あたりのコストを測る
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DifficultyStrategyBenchmark {
+    
+    private static final int INPUT_SIZE = 1024;
+    
+    private int[] scores;
+    private int[] hours;
+    private int index;
+    
+    @Setup
+    public void setUp() {
+        final SplittableRandom random = new SplittableRandom(42);
+        scores = new int[INPUT_SIZE];
+        hours = new int[INPUT_SIZE];
+        for (int i = 0; i < INPUT_SIZE; i++) {
+            scores[i] = random.nextInt(0, 101);
+            hours[i] = random.nextInt(0, 120);
+        }
+    }
+    
+    @Benchmark
+    public StudyGoal.GoalDifficulty determineDifficulty() {
+        final int i = next();
+        return DifficultyStrategy.determineDifficulty(scores[i], hours[i]);
+    }
+    
+    @Benchmark
+    public Optional<String> getRecommendation() {
+        final int i = next();
+        return DifficultyStrategy.getRecommendation(scores[i], hours[i]);
+    }
+    
+    @Benchmark
+    public void determineDifficultyForAllInputs(final Blackhole blackhole) {
+        for (int i = 0; i < INPUT_SIZE; i++) {
+            blackhole.consume(DifficultyStrategy.determineDifficulty(scores[i], hours[i]));
+        }
+    }
+    
+    private int next() {
+        index = (index + 1) & (INPUT_SIZE - 1);
+        return index;
+    }
+}
@@ -0,0 +1,48 @@
+package com.learningapp.bench;
+
+import com.learningapp.base.domain.validator.EmailValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * メールアドレス検証（EmailValidator.validateAndNormalize）のベンチマーク
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailValidatorBenchmark {
+    
+    @Param({"taro.yamada@example.co.jp", "  Hanako.Suzuki+study@Corp-Example.COM  "})
+    public String email;
+    
+    private EmailValidator validator;
+    
+    @Setup
+    public void setUp() {
+        validator = new EmailValidator();
+    }
+    
+    @Benchmark
+    public String validateAndNormalize() {
+        return validator.validateAndNormalize(email);
+    }
+    
+    @Benchmark
+    public boolean isCorporateEmail() {
+        return validator.isCorporateEmail(email);
+    }
+}
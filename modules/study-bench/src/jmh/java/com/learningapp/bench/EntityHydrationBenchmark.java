@@ -0,0 +1,292 @@
+package com.learningapp.bench;
+
+import com.learningapp.base.domain.entity.User;
+import com.learningapp.base.domain.enums.StudyPlanStatus;
+import com.learningapp.base.domain.factory.UserFactory;
+import com.learningapp.base.infrastructure.mybatis.typehandler.StudyPlanIdTypeHandler;
+import com.learningapp.base.infrastructure.mybatis.typehandler.UserIdTypeHandler;
+import com.learningapp.base.domain.validator.EmailValidator;
+import com.learningapp.base.domain.validator.NameValidator;
+import com.learningapp.base.domain.valueobject.StudyCategoryId;
+import com.learningapp.base.domain.valueobject.StudyGoalId;
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.base.domain.valueobject.UserId;
+import com.learningapp.plan.domain.entity.StudyGoal;
+import com.learningapp.plan.domain.entity.StudyPlan;
+import com.learningapp.plan.domain.factory.StudyGoalFactory;
+import com.learningapp.plan.domain.factory.StudyPlanFactory;
+import com.learningapp.plan.domain.validator.StudyGoalValidator;
+import com.learningapp.plan.domain.validator.StudyPlanValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * エンティティ復元（DB行→エンティティ）のベンチマーク
+ * 検証付きの restore* と信頼済み行向けの hydrate* を比較する
+ * 
+ * 行マッピングの変更前後も比較する（*Before が変更前、*After が変更後）
+ * - ステータス: values() を毎回走査する fromCode と、事前計算済みマップの fromCode
+ * - ID: 文字列で読み書きして解析する方法と、IdentityTypeHandler による uuid の直接読み書き
+ * - hydrateRows*: 上記を合わせた1行あたりの復元（ops/ms = 1ミリ秒あたりの復元行数）
+ * ResultSet・PreparedStatement はメモリ上の行を返すスタブで、ドライバのコストは含まない
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityHydrationBenchmark {
+    
+    private static final int ROWS = 1024;
+    
+    private static final String[] STATUS_CODES = {"ACTIVE", "COMPLETED", "PAUSED", "CANCELLED"};
+    
+    private UserFactory userFactory;
+    private StudyPlanFactory studyPlanFactory;
+    private StudyGoalFactory studyGoalFactory;
+    
+    private UUID userUuid;
+    private String userIdString;
+    private UUID planUuid;
+    private UUID goalUuid;
+    private UUID categoryUuid;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDateTime createdAt;
+    
+    private final UserIdTypeHandler userIdTypeHandler = new UserIdTypeHandler();
+    private final StudyPlanIdTypeHandler studyPlanIdTypeHandler = new StudyPlanIdTypeHandler();
+    private InMemoryRows rows;
+    private ResultSet resultSet;
+    private PreparedStatement preparedStatement;
+    private UserId userId;
+    private int codeIndex;
+    
+    @Setup
+    public void setUp() {
+        userFactory = new UserFactory(new NameValidator(), new EmailValidator());
+        studyPlanFactory = new StudyPlanFactory(new StudyPlanValidator());
+        studyGoalFactory = new StudyGoalFactory(new StudyGoalValidator());
+        
+        userUuid = UUID.randomUUID();
+        userIdString = userUuid.toString();
+        planUuid = UUID.randomUUID();
+        goalUuid = UUID.randomUUID();
+        categoryUuid = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        startDate = LocalDate.now();
+        endDate = startDate.plusDays(90);
+        createdAt = LocalDateTime.now().minusDays(1);
+        
+        rows = new InMemoryRows(ROWS);
+        resultSet = rows.resultSet();
+        preparedStatement = rows.preparedStatement();
+        userId = UserId.of(userUuid);
+    }
+    
+    @Benchmark
+    public StudyPlanStatus statusFromCodeBefore() {
+        return fromCodeByStream(STATUS_CODES[nextCode()]);
+    }
+    
+    @Benchmark
+    public StudyPlanStatus statusFromCodeAfter() {
+        return StudyPlanStatus.fromCode(STATUS_CODES[nextCode()]);
+    }
+    
+    @Benchmark
+    public UserId readUserIdBefore() throws SQLException {
+        rows.next();
+        return UserId.of(resultSet.getString("user_id"));
+    }
+    
+    @Benchmark
+    public UserId readUserIdAfter() throws SQLException {
+        rows.next();
+        return userIdTypeHandler.getResult(resultSet, "user_id");
+    }
+    
+    @Benchmark
+    public Object bindUserIdBefore() throws SQLException {
+        preparedStatement.setString(1, userId.getValue());
+        return rows.bound;
+    }
+    
+    @Benchmark
+    public Object bindUserIdAfter() throws SQLException {
+        userIdTypeHandler.setParameter(preparedStatement, 1, userId, null);
+        return rows.bound;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void hydrateRowsBefore(final Blackhole blackhole) throws SQLException {
+        for (int i = 0; i < ROWS; i++) {
+            rows.next();
+            blackhole.consume(studyPlanFactory.hydrateStudyPlan(
+                StudyPlanId.of(resultSet.getString("id")), UserId.of(resultSet.getString("user_id")),
+                "データベーススペシャリスト合格への道", "90日間の学習計画", startDate, endDate,
+                fromCodeByStream(resultSet.getString("status")), 2, createdAt, createdAt));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void hydrateRowsAfter(final Blackhole blackhole) throws SQLException {
+        for (int i = 0; i < ROWS; i++) {
+            rows.next();
+            blackhole.consume(studyPlanFactory.hydrateStudyPlan(
+                studyPlanIdTypeHandler.getResult(resultSet, "id"), userIdTypeHandler.getResult(resultSet, "user_id"),
+                "データベーススペシャリスト合格への道", "90日間の学習計画", startDate, endDate,
+                StudyPlanStatus.fromCode(resultSet.getString("status")), 2, createdAt, createdAt));
+        }
+    }
+    
+    @Benchmark
+    public User restoreUser() {
+        return userFactory.restoreUser(UserId.of(userIdString), "山田 太郎", "Taro.Yamada@Example.co.jp");
+    }
+    
+    @Benchmark
+    public User hydrateUser() {
+        return userFactory.hydrateUser(UserId.of(userUuid), "山田 太郎", "taro.yamada@example.co.jp",
+                                       createdAt, createdAt);
+    }
+    
+    @Benchmark
+    public StudyPlan restoreStudyPlan() {
+        return studyPlanFactory.restoreStudyPlan(
+            StudyPlanId.of(planUuid), UserId.of(userUuid), "データベーススペシャリスト合格への道",
+            "90日間の学習計画", startDate, endDate, StudyPlanStatus.fromCode("ACTIVE"), 2);
+    }
+    
+    @Benchmark
+    public StudyPlan hydrateStudyPlan() {
+        return studyPlanFactory.hydrateStudyPlan(
+            StudyPlanId.of(planUuid), UserId.of(userUuid), "データベーススペシャリスト合格への道",
+            "90日間の学習計画", startDate, endDate, StudyPlanStatus.fromCode("ACTIVE"), 2,
+            createdAt, createdAt);
+    }
+    
+    @Benchmark
+    public StudyGoal restoreGoal() {
+        return studyGoalFactory.restoreGoal(
+            StudyGoalId.of(goalUuid), StudyPlanId.of(planUuid), StudyCategoryId.of(categoryUuid),
+            80, 40, 65, 22);
+    }
+    
+    @Benchmark
+    public StudyGoal hydrateGoal() {
+        return studyGoalFactory.hydrateGoal(
+            StudyGoalId.of(goalUuid), StudyPlanId.of(planUuid), StudyCategoryId.of(categoryUuid),
+            80, 40, 65, 22, createdAt, createdAt);
+    }
+    
+    private int nextCode() {
+        codeIndex = (codeIndex + 1) & (STATUS_CODES.length - 1);
+        return codeIndex;
+    }
+    
+    /**
+     * 変更前の StudyPlanStatus.fromCode（呼び出しの都度 values() を走査する）
+     */
+    private static StudyPlanStatus fromCodeByStream(final String code) {
+        return Arrays.stream(StudyPlanStatus.values())
+            .filter(status -> status.getCode().equals(code))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown StudyPlanStatus code: " + code));
+    }
+    
+    /**
+     * study_plans の行（id, user_id, status）をメモリ上に持つ ResultSet・PreparedStatement のスタブ
+     * uuid列は getObject(..., UUID.class) では UUID を、getString では文字列表現を返す
+     */
+    private static final class InMemoryRows {
+        
+        private final UUID[] ids;
+        private final UUID[] userIds;
+        private final String[] idStrings;
+        private final String[] userIdStrings;
+        private final String[] statusCodes;
+        private int current;
+        private Object bound;
+        
+        InMemoryRows(final int size) {
+            ids = new UUID[size];
+            userIds = new UUID[size];
+            idStrings = new String[size];
+            userIdStrings = new String[size];
+            statusCodes = new String[size];
+            for (int i = 0; i < size; i++) {
+                ids[i] = UUID.randomUUID();
+                userIds[i] = UUID.randomUUID();
+                idStrings[i] = ids[i].toString();
+                userIdStrings[i] = userIds[i].toString();
+                statusCodes[i] = STATUS_CODES[i % STATUS_CODES.length];
+            }
+        }
+        
+        void next() {
+            current = current + 1 < ids.length ? current + 1 : 0;
+        }
+        
+        ResultSet resultSet() {
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getObject" -> uuidColumn((String) args[0]);
+                    case "getString" -> stringColumn((String) args[0]);
+                    case "wasNull" -> false;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        }
+        
+        PreparedStatement preparedStatement() {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "setObject", "setString" -> {
+                        bound = args[1];
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        }
+        
+        private UUID uuidColumn(final String column) {
+            return switch (column) {
+                case "id" -> ids[current];
+                case "user_id" -> userIds[current];
+                default -> throw new IllegalArgumentException(column);
+            };
+        }
+        
+        private String stringColumn(final String column) {
+            return switch (column) {
+                case "id" -> idStrings[current];
+                case "user_id" -> userIdStrings[current];
+                case "status" -> statusCodes[current];
+                default -> throw new IllegalArgumentException(column);
+            };
+        }
+    }
+}
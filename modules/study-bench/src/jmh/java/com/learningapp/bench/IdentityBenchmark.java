@@ -0,0 +1,111 @@
+package com.learningapp.bench;
+
+import com.learningapp.base.domain.valueobject.TimeOrderedIdGenerator;
+import com.learningapp.base.domain.valueobject.UserId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID Value Objectのベンチマーク
+ * equals/hashCode、IDをキーにしたMap参照、生成・変換のコストを測る
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentityBenchmark {
+    
+    private static final int KEY_COUNT = 4096;
+    
+    private UserId[] keys;
+    private UserId[] probes;
+    private Map<UserId, Integer> index;
+    private UUID uuid;
+    private String uuidString;
+    private int cursor;
+    
+    @Setup
+    public void setUp() {
+        keys = new UserId[KEY_COUNT];
+        probes = new UserId[KEY_COUNT];
+        index = new HashMap<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = UserId.generate();
+            // 別インスタンスで同値のIDを用意し、参照一致の近道を避ける
+            probes[i] = UserId.of(keys[i].toUuid());
+            index.put(keys[i], i);
+        }
+        uuid = UUID.randomUUID();
+        uuidString = uuid.toString();
+    }
+    
+    @Benchmark
+    public int idHashCode() {
+        return probes[next()].hashCode();
+    }
+    
+    @Benchmark
+    public boolean idEquals() {
+        final int i = next();
+        return keys[i].equals(probes[i]);
+    }
+    
+    @Benchmark
+    public Integer mapLookup() {
+        return index.get(probes[next()]);
+    }
+    
+    @Benchmark
+    public UserId ofUuid() {
+        return UserId.of(uuid);
+    }
+    
+    @Benchmark
+    public UserId ofString() {
+        return UserId.of(uuidString);
+    }
+    
+    @Benchmark
+    public String format() {
+        return probes[next()].getValue();
+    }
+    
+    /**
+     * 時刻順序付きUUID（UUIDv7）の生成（4スレッド同時）
+     */
+    @Benchmark
+    @Threads(4)
+    public UUID generateTimeOrdered() {
+        return TimeOrderedIdGenerator.nextUuid();
+    }
+    
+    /**
+     * 比較用: SecureRandomによるランダムUUID（v4）の生成（4スレッド同時）
+     */
+    @Benchmark
+    @Threads(4)
+    public UUID generateRandomV4() {
+        return UUID.randomUUID();
+    }
+    
+    private int next() {
+        cursor = (cursor + 1) & (KEY_COUNT - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,95 @@
+package com.learningapp.bench;
+
+import com.learningapp.base.domain.valueobject.StudyCategoryId;
+import com.learningapp.base.domain.valueobject.StudyGoalId;
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.plan.domain.entity.StudyGoal;
+import com.learningapp.plan.domain.factory.StudyGoalFactory;
+import com.learningapp.plan.domain.strategy.DifficultyStrategy;
+import com.learningapp.plan.domain.validator.StudyGoalValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 学習目標の達成度計算のベンチマーク
+ * コホートの目標一覧描画（達成率・進捗ステータス・難易度・toString）を想定
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudyGoalAchievementBenchmark {
+    
+    private static final int GOAL_COUNT = 1000;
+    
+    private List<StudyGoal> goals;
+    
+    @Setup
+    public void setUp() {
+        final StudyGoalFactory factory = new StudyGoalFactory(new StudyGoalValidator());
+        final SplittableRandom random = new SplittableRandom(42);
+        final StudyPlanId planId = StudyPlanId.generate();
+        final LocalDateTime createdAt = LocalDateTime.now();
+        
+        goals = new ArrayList<>(GOAL_COUNT);
+        for (int i = 0; i < GOAL_COUNT; i++) {
+            goals.add(factory.hydrateGoal(
+                StudyGoalId.generate(), planId, StudyCategoryId.generate(),
+                random.nextInt(0, 101), random.nextInt(0, 120),
+                random.nextInt(0, 101), random.nextInt(0, 120),
+                createdAt, createdAt));
+        }
+    }
+    
+    @Benchmark
+    public void achievementRates(final Blackhole blackhole) {
+        for (final StudyGoal goal : goals) {
+            blackhole.consume(goal.getOverallAchievementRate());
+            blackhole.consume(goal.isGoalAchieved());
+        }
+    }
+    
+    @Benchmark
+    public void progressStatus(final Blackhole blackhole) {
+        for (final StudyGoal goal : goals) {
+            blackhole.consume(goal.getProgressStatus());
+        }
+    }
+    
+    @Benchmark
+    public void difficultyAndRecommendation(final Blackhole blackhole) {
+        for (final StudyGoal goal : goals) {
+            blackhole.consume(goal.getDifficulty());
+            blackhole.consume(goal.getRecommendation());
+        }
+    }
+    
+    @Benchmark
+    public List<DifficultyStrategy> classifyAll() {
+        return DifficultyStrategy.classifyAll(goals);
+    }
+    
+    @Benchmark
+    public void render(final Blackhole blackhole) {
+        for (final StudyGoal goal : goals) {
+            blackhole.consume(goal.toString());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.learningapp.bench;
+
+import com.learningapp.base.domain.valueobject.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 主キーの挿入スループットとインデックスサイズ: 時刻順序付きUUID（v7）とランダムUUID（v4）の比較
+ * 
+ * docker-compose のPostgreSQLに専用テーブルを作り、既存行を投入した上に1000行ずつバッチ挿入する。
+ * 計測後に主キーインデックスのサイズ・リーフ密度（pgstattuple がある場合）を出力する
+ * 
+ * docker compose up -d postgres
+ * ./gradlew :study-bench:jmh -PjmhIncludes=UuidInsertBenchmark
+ * 接続先は BENCH_DB_URL / BENCH_DB_USER / BENCH_DB_PASSWORD で変更できる
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidInsertBenchmark {
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    @Param({"v7", "v4"})
+    public String idType;
+    
+    /** 計測前に投入する行数（インデックスが共有バッファに収まらない規模で差が大きくなる） */
+    @Param({"1000000"})
+    public int preloadRows;
+    
+    private Connection connection;
+    private PreparedStatement insert;
+    private String table;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+            env("BENCH_DB_URL", "jdbc:postgresql://localhost:5432/learning_management"),
+            env("BENCH_DB_USER", "learning_user"),
+            env("BENCH_DB_PASSWORD", "learning_pass"));
+        connection.setAutoCommit(false);
+        
+        table = "bench_uuid_insert_" + idType;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, payload INTEGER NOT NULL)");
+        }
+        insert = connection.prepareStatement("INSERT INTO " + table + " (id, payload) VALUES (?, ?)");
+        for (int loaded = 0; loaded < preloadRows; loaded += BATCH_SIZE) {
+            insertBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT");
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            report(statement);
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            connection.commit();
+        } finally {
+            connection.close();
+        }
+    }
+    
+    /**
+     * 1000行を1バッチ・1コミットで挿入
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, nextId());
+            insert.setInt(2, i);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+    
+    private UUID nextId() {
+        return "v7".equals(idType) ? TimeOrderedIdGenerator.nextUuid() : UUID.randomUUID();
+    }
+    
+    private void report(final Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(
+            "SELECT count(*), pg_relation_size('" + table + "_pkey'), pg_size_pretty(pg_relation_size('" + table + "_pkey'))"
+                + " FROM " + table)) {
+            rs.next();
+            System.out.printf("%n[%s] rows=%d, pkey index=%s (%d bytes, %.1f bytes/row)%n",
+                idType, rs.getLong(1), rs.getString(3), rs.getLong(2), (double) rs.getLong(2) / rs.getLong(1));
+        }
+        try (ResultSet rs = statement.executeQuery(
+            "SELECT avg_leaf_density, leaf_fragmentation FROM pgstatindex('" + table + "_pkey')")) {
+            rs.next();
+            System.out.printf("[%s] avg_leaf_density=%.1f%%, leaf_fragmentation=%.1f%%%n",
+                idType, rs.getDouble(1), rs.getDouble(2));
+        } catch (SQLException e) {
+            // pgstattuple 拡張がない場合はサイズのみ
+            connection.rollback();
+        }
+    }
+    
+    private static String env(final String name, final String defaultValue) {
+        final String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+}
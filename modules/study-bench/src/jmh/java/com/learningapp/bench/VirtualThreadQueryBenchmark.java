@@ -0,0 +1,180 @@
+package com.learningapp.bench;
+
+import com.learningapp.infrastructure.datasource.ConnectionGateDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Query系リクエストのプラットフォームスレッド実行と仮想スレッド実行の比較
+ *
+ * 1リクエスト = Redis往復（1ms）+ 一定割合でDBクエリ（2ms、接続プール20本）をスリープで模擬し、
+ * 同時に到着したリクエスト群を捌き切るまでの時間を計測する
+ * プラットフォームはTomcatの既定（max-threads: 200）相当の固定プール、仮想スレッドはタスク毎に1スレッド
+ *
+ * 仮想スレッドはJDK 21以上で実行すること（それ未満ではvirtualの計測が失敗する）
+ * ./gradlew :study-bench:jmh -PjmhIncludes=VirtualThreadQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadQueryBenchmark {
+    
+    private static final int POOL_SIZE = 20;
+    private static final int PLATFORM_THREADS = 200;
+    
+    @Param({"platform", "virtual"})
+    public String threading;
+    
+    @Param({"2000"})
+    public int concurrentRequests;
+    
+    /** DBまで到達するリクエストの割合（残りはキャッシュで完結） */
+    @Param({"0.3"})
+    public double databaseRatio;
+    
+    private ExecutorService executor;
+    private DataSource dataSource;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        executor = "virtual".equals(threading)
+            ? (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null)
+            : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        dataSource = new ConnectionGateDataSource(
+            new SimulatedPoolDataSource(POOL_SIZE), POOL_SIZE, Duration.ofSeconds(30), Integer.MAX_VALUE);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Benchmark
+    public int serveBurst() throws Exception {
+        final List<Future<Boolean>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            responses.add(executor.submit(this::handleQueryRequest));
+        }
+        
+        int served = 0;
+        for (final Future<Boolean> response : responses) {
+            if (response.get()) {
+                served++;
+            }
+        }
+        return served;
+    }
+    
+    private boolean handleQueryRequest() throws Exception {
+        // キャッシュ（Redis）への往復
+        Thread.sleep(1);
+        
+        if (ThreadLocalRandom.current().nextDouble() >= databaseRatio) {
+            return true;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            // クエリ実行
+            Thread.sleep(2);
+            return connection != null;
+        }
+    }
+    
+    /**
+     * 最大接続数だけを模擬する接続プール（接続はclose()で返却）
+     */
+    private static final class SimulatedPoolDataSource implements DataSource {
+        
+        private final Semaphore connections;
+        
+        SimulatedPoolDataSource(final int poolSize) {
+            this.connections = new Semaphore(poolSize);
+        }
+        
+        @Override
+        public Connection getConnection() throws SQLException {
+            try {
+                connections.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted", e);
+            }
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        connections.release();
+                    }
+                    return null;
+                });
+        }
+        
+        @Override
+        public Connection getConnection(final String username, final String password) throws SQLException {
+            return getConnection();
+        }
+        
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+        
+        @Override
+        public void setLogWriter(final PrintWriter out) {
+        }
+        
+        @Override
+        public void setLoginTimeout(final int seconds) {
+        }
+        
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+        
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getGlobal();
+        }
+        
+        @Override
+        public <T> T unwrap(final Class<T> iface) throws SQLException {
+            throw new SQLException("Not a wrapper");
+        }
+        
+        @Override
+        public boolean isWrapperFor(final Class<?> iface) {
+            return false;
+        }
+    }
+}
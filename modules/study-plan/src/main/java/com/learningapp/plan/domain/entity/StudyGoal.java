@@ -8,6 +8,7 @@ import com.learningapp.base.domain.valueobject.StudyPlanId;
 import com.learningapp.plan.domain.strategy.DifficultyStrategy;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -19,7 +20,9 @@ import java.util.Objects;
  * Strategy Patternで複雑な条件分岐を排除
  */
 @Getter
-public final class StudyGoal implements EntityMarker<StudyGoalId> {
+public final class StudyGoal implements EntityMarker<StudyGoalId>, Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     private static final int MAX_TARGET_HOURS = 10000;
     private static final int MIN_SCORE = 0;
@@ -36,7 +39,21 @@ public final class StudyGoal implements EntityMarker<StudyGoalId> {
     // Package-private：Factoryからのみアクセス可能
     StudyGoal(final StudyGoalId id, final StudyPlanId studyPlanId, final StudyCategoryId categoryId,
              final int targetScore, final int targetHours, final int currentBestScore, final int totalStudiedHours) {
-        this.entityBase = new EntityBase<>(id);
+        this(new EntityBase<>(id), studyPlanId, categoryId, targetScore, targetHours, currentBestScore, totalStudiedHours);
+    }
+    
+    // Package-private：永続化層からの復元用（永続化済みのタイムスタンプを引き継ぐ）
+    StudyGoal(final StudyGoalId id, final StudyPlanId studyPlanId, final StudyCategoryId categoryId,
+             final int targetScore, final int targetHours, final int currentBestScore, final int totalStudiedHours,
+             final LocalDateTime createdAt, final LocalDateTime updatedAt) {
+        this(new EntityBase<>(id, createdAt, updatedAt), studyPlanId, categoryId,
+             targetScore, targetHours, currentBestScore, totalStudiedHours);
+    }
+    
+    private StudyGoal(final EntityBase<StudyGoalId> entityBase, final StudyPlanId studyPlanId,
+                      final StudyCategoryId categoryId, final int targetScore, final int targetHours,
+                      final int currentBestScore, final int totalStudiedHours) {
+        this.entityBase = entityBase;
         this.studyPlanId = Objects.requireNonNull(studyPlanId, "StudyPlanId must not be null");
         this.categoryId = Objects.requireNonNull(categoryId, "StudyCategoryId must not be null");
         this.targetScore = validateScore(targetScore);
@@ -49,13 +66,12 @@ public final class StudyGoal implements EntityMarker<StudyGoalId> {
      * 目標更新（新しいインスタンスを返す - 不変性）
      */
     public StudyGoal updateGoal(final int newTargetScore, final int newTargetHours) {
-        final StudyGoal updatedGoal = new StudyGoal(
+        return new StudyGoal(
             this.getId(), this.studyPlanId, this.categoryId,
             newTargetScore, newTargetHours, 
-            this.currentBestScore, this.totalStudiedHours
+            this.currentBestScore, this.totalStudiedHours,
+            this.getCreatedAt(), LocalDateTime.now()
         );
-        updatedGoal.entityBase.updateTimestamp();
-        return updatedGoal;
     }
     
     /**
@@ -66,13 +82,12 @@ public final class StudyGoal implements EntityMarker<StudyGoalId> {
         final int updatedBestScore = calculateUpdatedBestScore(newScore);
         final int updatedTotalHours = calculateUpdatedTotalHours(additionalHours);
         
-        final StudyGoal updatedGoal = new StudyGoal(
+        return new StudyGoal(
             this.getId(), this.studyPlanId, this.categoryId,
             this.targetScore, this.targetHours, 
-            updatedBestScore, updatedTotalHours
+            updatedBestScore, updatedTotalHours,
+            this.getCreatedAt(), LocalDateTime.now()
         );
-        updatedGoal.entityBase.updateTimestamp();
-        return updatedGoal;
     }
     
     // EntityMarkerの実装
@@ -7,6 +7,7 @@ import com.learningapp.base.domain.valueobject.StudyPlanId;
 import com.learningapp.base.domain.valueobject.UserId;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -18,7 +19,12 @@ import java.util.Objects;
  * staticメソッドを完全削除、StudyPlanValidatorに委譲
  */
 @Getter
-public final class StudyPlan implements AggregateRootMarker<StudyPlanId> {
+public final class StudyPlan implements AggregateRootMarker<StudyPlanId>, Serializable {
+    
+    private static final long serialVersionUID = 1L;
+    
+    /** 期限が近いとみなす残り日数 */
+    public static final int NEAR_DEADLINE_DAYS = 7;
     
     private final EntityBase<StudyPlanId> entityBase;
     private final UserId userId;
@@ -34,7 +40,22 @@ public final class StudyPlan implements AggregateRootMarker<StudyPlanId> {
     StudyPlan(final StudyPlanId id, final UserId userId, final String title, 
              final String description, final LocalDate startDate, final LocalDate endDate, 
              final StudyPlanStatus status, final int targetHoursPerDay) {
-        this.entityBase = new EntityBase<>(id);
+        this(new EntityBase<>(id), userId, title, description, startDate, endDate, status, targetHoursPerDay);
+    }
+    
+    // Package-private：永続化層からの復元用（永続化済みのタイムスタンプを引き継ぐ）
+    StudyPlan(final StudyPlanId id, final UserId userId, final String title, 
+             final String description, final LocalDate startDate, final LocalDate endDate, 
+             final StudyPlanStatus status, final int targetHoursPerDay,
+             final LocalDateTime createdAt, final LocalDateTime updatedAt) {
+        this(new EntityBase<>(id, createdAt, updatedAt), userId, title, description,
+             startDate, endDate, status, targetHoursPerDay);
+    }
+    
+    private StudyPlan(final EntityBase<StudyPlanId> entityBase, final UserId userId, final String title,
+                      final String description, final LocalDate startDate, final LocalDate endDate,
+                      final StudyPlanStatus status, final int targetHoursPerDay) {
+        this.entityBase = entityBase;
         this.userId = Objects.requireNonNull(userId, "User ID must not be null");
         this.title = Objects.requireNonNull(title, "Title must not be null");
         this.description = description != null ? description : "";
@@ -51,12 +72,11 @@ public final class StudyPlan implements AggregateRootMarker<StudyPlanId> {
     public StudyPlan updatePlan(final String newTitle, final String newDescription, 
                                final LocalDate newStartDate, final LocalDate newEndDate, 
                                final int newTargetHoursPerDay) {
-        final StudyPlan updatedPlan = new StudyPlan(
+        return new StudyPlan(
             this.getId(), this.userId, newTitle, newDescription, 
-            newStartDate, newEndDate, this.status, newTargetHoursPerDay
+            newStartDate, newEndDate, this.status, newTargetHoursPerDay,
+            this.getCreatedAt(), LocalDateTime.now()
         );
-        updatedPlan.entityBase.updateTimestamp();
-        return updatedPlan;
     }
     
     /**
@@ -116,15 +136,34 @@ public final class StudyPlan implements AggregateRootMarker<StudyPlanId> {
     }
     
     public boolean isOverdue() {
-        return LocalDate.now().isAfter(endDate) && status == StudyPlanStatus.ACTIVE;
+        return isOverdue(LocalDate.now());
+    }
+    
+    /**
+     * 基準日時点で期限切れか（一括処理では基準日を固定して呼び出す）
+     */
+    public boolean isOverdue(final LocalDate asOf) {
+        return asOf.isAfter(endDate) && status == StudyPlanStatus.ACTIVE;
     }
     
     public long getRemainingDays() {
-        return java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(), endDate);
+        return getRemainingDays(LocalDate.now());
+    }
+    
+    public long getRemainingDays(final LocalDate asOf) {
+        return java.time.temporal.ChronoUnit.DAYS.between(asOf, endDate);
     }
     
     public boolean isNearDeadline() {
-        return getRemainingDays() <= 7 && getRemainingDays() >= 0;
+        return isNearDeadline(LocalDate.now());
+    }
+    
+    /**
+     * 基準日時点で期限が近いか（残り7日以内）
+     */
+    public boolean isNearDeadline(final LocalDate asOf) {
+        final long remainingDays = getRemainingDays(asOf);
+        return remainingDays <= NEAR_DEADLINE_DAYS && remainingDays >= 0;
     }
     
     public long getTotalTargetHours() {
@@ -166,11 +205,10 @@ public final class StudyPlan implements AggregateRootMarker<StudyPlanId> {
     }
     
     private StudyPlan changeStatus(final StudyPlanStatus newStatus) {
-        final StudyPlan updatedPlan = new StudyPlan(
+        return new StudyPlan(
             this.getId(), this.userId, this.title, this.description,
-            this.startDate, this.endDate, newStatus, this.targetHoursPerDay
+            this.startDate, this.endDate, newStatus, this.targetHoursPerDay,
+            this.getCreatedAt(), LocalDateTime.now()
         );
-        updatedPlan.entityBase.updateTimestamp();
-        return updatedPlan;
     }
 }
@@ -8,6 +8,7 @@ import com.learningapp.plan.domain.validator.StudyGoalValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
@@ -43,6 +44,7 @@ public class StudyGoalFactory {
     
     /**
      * 既存学習目標復元（永続化層から）
+     * 値を再検証する。DBから読み込んだ行には hydrateGoal を使用する
      */
     public StudyGoal restoreGoal(final StudyGoalId id, final StudyPlanId studyPlanId, final StudyCategoryId categoryId,
                                 final int targetScore, final int targetHours, 
@@ -58,6 +60,20 @@ public class StudyGoalFactory {
                            Math.max(0, currentBestScore), Math.max(0, totalStudiedHours));
     }
     
+    /**
+     * 永続化済み学習目標の高速復元（DBから読み込んだ行専用）
+     * 書き込み時に検証済みのため再検証せず、永続化済みのタイムスタンプを引き継ぐ
+     */
+    public StudyGoal hydrateGoal(final StudyGoalId id, final StudyPlanId studyPlanId, final StudyCategoryId categoryId,
+                                 final int targetScore, final int targetHours,
+                                 final int currentBestScore, final int totalStudiedHours,
+                                 final LocalDateTime createdAt, final LocalDateTime updatedAt) {
+        Objects.requireNonNull(id, "StudyGoalId must not be null");
+        
+        return new StudyGoal(id, studyPlanId, categoryId, targetScore, targetHours,
+                             currentBestScore, totalStudiedHours, createdAt, updatedAt);
+    }
+    
     /**
      * データベーススペシャリスト試験用デフォルト目標作成
      */
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 /**
@@ -48,6 +49,7 @@ public class StudyPlanFactory {
     
     /**
      * 既存学習計画復元（永続化層から）
+     * 値を再検証する。DBから読み込んだ行には hydrateStudyPlan を使用する
      */
     public StudyPlan restoreStudyPlan(final StudyPlanId id, final UserId userId, final String title, 
                                      final String description, final LocalDate startDate, final LocalDate endDate,
@@ -65,6 +67,22 @@ public class StudyPlanFactory {
         return new StudyPlan(id, userId, validatedTitle, description, startDate, endDate, status, validatedTargetHours);
     }
     
+    /**
+     * 永続化済み学習計画の高速復元（DBから読み込んだ行専用）
+     * 書き込み時に検証済みのため再検証せず、永続化済みのタイムスタンプを引き継ぐ
+     * 開始日の検証（validateDateRange）で行毎にシステム時計を参照することもない
+     */
+    public StudyPlan hydrateStudyPlan(final StudyPlanId id, final UserId userId, final String title,
+                                      final String description, final LocalDate startDate, final LocalDate endDate,
+                                      final StudyPlanStatus status, final Integer targetHoursPerDay,
+                                      final LocalDateTime createdAt, final LocalDateTime updatedAt) {
+        Objects.requireNonNull(id, "StudyPlanId must not be null");
+        
+        final int targetHours = targetHoursPerDay != null ? targetHoursPerDay : DEFAULT_TARGET_HOURS;
+        return new StudyPlan(id, userId, title, description, startDate, endDate, status, targetHours,
+                             createdAt, updatedAt);
+    }
+    
     /**
      * データベーススペシャリスト試験用学習計画作成
      */
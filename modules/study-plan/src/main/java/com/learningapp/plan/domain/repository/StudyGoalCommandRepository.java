@@ -1,5 +1,6 @@
 package com.learningapp.plan.domain.repository;
 
+import com.learningapp.base.domain.repository.BatchWriteResult;
 import com.learningapp.base.domain.valueobject.StudyGoalId;
 import com.learningapp.base.domain.valueobject.StudyPlanId;
 import com.learningapp.plan.domain.entity.StudyGoal;
@@ -29,11 +30,40 @@ public interface StudyGoalCommandRepository {
     
     /**
      * 複数の学習目標を一括保存
+     * app.cqrs.command.batch-size行毎に1回のJDBCバッチで書き込み、行単位の結果を返す
      */
-    void saveAll(List<StudyGoal> studyGoals);
+    BatchWriteResult saveAll(List<StudyGoal> studyGoals);
     
     /**
      * 学習計画の目標を一括置換
+     * 
+     * @deprecated 全削除・再挿入になり、進捗（current_best_score, total_studied_hours）も失われるため
+     *             StudyGoalReplacementService（差分のみを {@link #applyDiff} で書き込む）を使用すること
      */
+    @Deprecated
     void replaceGoalsForStudyPlan(StudyPlanId studyPlanId, List<StudyGoal> newGoals);
+    
+    /**
+     * 目標の差分を1文で書き込む（空の差分では呼び出さないこと）
+     * 既存の目標は行を残したまま目標値だけを更新するため、ID・進捗・作成日時は変わらない
+     * 目標値が既に同じ行は更新しない（並行して同じ変更が書き込まれた場合もupdated_atトリガーを発火させない）
+     * <pre>
+     * WITH removed AS (
+     *     DELETE FROM study_goals
+     *      WHERE study_plan_id = :studyPlanId
+     *        AND category_id = ANY(:removedCategoryIds)
+     * )
+     * INSERT INTO study_goals (id, study_plan_id, category_id, target_score, target_hours,
+     *                          current_best_score, total_studied_hours)
+     * SELECT g.id, :studyPlanId, g.category_id, g.target_score, g.target_hours, 0, 0
+     *   FROM unnest(:goalIds::uuid[], :categoryIds::uuid[], :targetScores::int[], :targetHours::int[])
+     *            AS g(id, category_id, target_score, target_hours)
+     * ON CONFLICT (study_plan_id, category_id) DO UPDATE
+     *    SET target_score = EXCLUDED.target_score,
+     *        target_hours = EXCLUDED.target_hours
+     *  WHERE (study_goals.target_score, study_goals.target_hours)
+     *        IS DISTINCT FROM (EXCLUDED.target_score, EXCLUDED.target_hours)
+     * </pre>
+     */
+    void applyDiff(StudyGoalDiff diff);
 }
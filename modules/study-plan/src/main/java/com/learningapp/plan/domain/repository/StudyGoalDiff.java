@@ -0,0 +1,93 @@
+package com.learningapp.plan.domain.repository;
+
+import com.learningapp.base.domain.valueobject.StudyCategoryId;
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.plan.domain.entity.StudyGoal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 学習計画の目標一覧の差分（カテゴリ単位）
+ * 目標値（target_score, target_hours）が変わったカテゴリと新しいカテゴリだけを書き込み、
+ * 無くなったカテゴリだけを削除する。進捗（current_best_score, total_studied_hours）は差分に含めない
+ * 
+ * @param studyPlanId 対象の学習計画
+ * @param upserts 追加・目標値を変更する目標
+ * @param removedCategoryIds 削除するカテゴリ
+ * @param unchangedCount 変更のない目標数
+ */
+public record StudyGoalDiff(
+    StudyPlanId studyPlanId,
+    List<StudyGoal> upserts,
+    List<StudyCategoryId> removedCategoryIds,
+    int unchangedCount
+) {
+    
+    public StudyGoalDiff {
+        Objects.requireNonNull(studyPlanId, "StudyPlanId must not be null");
+        upserts = List.copyOf(upserts);
+        removedCategoryIds = List.copyOf(removedCategoryIds);
+    }
+    
+    /**
+     * 現在の目標一覧と置換後の目標一覧の差分
+     * 
+     * @param current 永続化済みの目標
+     * @param desired 置換後の目標（カテゴリの重複不可）
+     */
+    public static StudyGoalDiff between(final StudyPlanId studyPlanId,
+                                        final List<StudyGoal> current,
+                                        final List<StudyGoal> desired) {
+        Objects.requireNonNull(studyPlanId, "StudyPlanId must not be null");
+        
+        final Map<StudyCategoryId, StudyGoal> desiredByCategory = new LinkedHashMap<>();
+        for (final StudyGoal goal : desired) {
+            if (!studyPlanId.equals(goal.getStudyPlanId())) {
+                throw new IllegalArgumentException("他の学習計画の目標は指定できません");
+            }
+            if (desiredByCategory.put(goal.getCategoryId(), goal) != null) {
+                throw new IllegalArgumentException("同じカテゴリの目標が重複しています");
+            }
+        }
+        
+        final Map<StudyCategoryId, StudyGoal> currentByCategory = new HashMap<>();
+        current.forEach(goal -> currentByCategory.put(goal.getCategoryId(), goal));
+        
+        final List<StudyGoal> upserts = new ArrayList<>();
+        int unchangedCount = 0;
+        for (final StudyGoal goal : desiredByCategory.values()) {
+            final StudyGoal existing = currentByCategory.get(goal.getCategoryId());
+            if (existing != null && existing.getTargetScore() == goal.getTargetScore()
+                && existing.getTargetHours() == goal.getTargetHours()) {
+                unchangedCount++;
+            } else {
+                upserts.add(goal);
+            }
+        }
+        
+        final List<StudyCategoryId> removedCategoryIds = currentByCategory.keySet().stream()
+            .filter(categoryId -> !desiredByCategory.containsKey(categoryId))
+            .toList();
+        
+        return new StudyGoalDiff(studyPlanId, upserts, removedCategoryIds, unchangedCount);
+    }
+    
+    /**
+     * 書き込みが不要か
+     */
+    public boolean isEmpty() {
+        return upserts.isEmpty() && removedCategoryIds.isEmpty();
+    }
+    
+    /**
+     * 書き込む行数（追加・更新・削除）
+     */
+    public int changedCount() {
+        return upserts.size() + removedCategoryIds.size();
+    }
+}
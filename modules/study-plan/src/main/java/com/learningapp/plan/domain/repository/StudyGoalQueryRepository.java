@@ -1,12 +1,16 @@
 package com.learningapp.plan.domain.repository;
 
+import com.learningapp.base.domain.repository.KeysetPage;
+import com.learningapp.base.domain.repository.PageCursor;
 import com.learningapp.base.domain.valueobject.StudyCategoryId;
 import com.learningapp.base.domain.valueobject.StudyGoalId;
 import com.learningapp.base.domain.valueobject.StudyPlanId;
 import com.learningapp.plan.domain.entity.StudyGoal;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * StudyGoal Query Repository
@@ -20,6 +24,11 @@ public interface StudyGoalQueryRepository {
      */
     Optional<StudyGoal> findById(StudyGoalId id);
     
+    /**
+     * 複数IDで一括取得（チャンク毎に1クエリ、要求順で返す）
+     */
+    List<StudyGoal> findAllById(List<StudyGoalId> ids);
+    
     /**
      * 全学習目標を取得
      */
@@ -35,6 +44,14 @@ public interface StudyGoalQueryRepository {
      */
     long count();
     
+    /**
+     * キーセットページング（created_at, id 順）
+     * 
+     * @param after 直前ページのカーソル（nullの場合は先頭ページ）
+     * @param limit 1ページの件数
+     */
+    KeysetPage<StudyGoal> findPage(PageCursor after, int limit);
+    
     /**
      * 学習計画IDで目標を検索
      */
@@ -65,6 +82,33 @@ public interface StudyGoalQueryRepository {
      */
     List<StudyGoal> findScoreAchievedGoalsByStudyPlanId(StudyPlanId studyPlanId);
     
+    /**
+     * 学習計画の全目標が達成済みか（目標が1件もない場合はfalse）
+     * 目標を読み込まず、集約1クエリで判定する（StudyGoal#isGoalAchieved と同じ条件）
+     * <pre>
+     * SELECT COUNT(*) > 0
+     *        AND COALESCE(bool_and(COALESCE(current_best_score, 0) >= target_score
+     *                              AND COALESCE(total_studied_hours, 0) >= target_hours), false)
+     *   FROM study_goals
+     *  WHERE study_plan_id = :studyPlanId
+     * </pre>
+     */
+    boolean areAllGoalsAchieved(StudyPlanId studyPlanId);
+    
+    /**
+     * 指定した学習計画のうち、全目標が達成済みの計画ID（チャンク毎に1クエリ）
+     * 目標のない計画は含まない
+     * <pre>
+     * SELECT study_plan_id
+     *   FROM study_goals
+     *  WHERE study_plan_id = ANY(:studyPlanIds)
+     *  GROUP BY study_plan_id
+     * HAVING bool_and(COALESCE(current_best_score, 0) >= target_score
+     *                 AND COALESCE(total_studied_hours, 0) >= target_hours)
+     * </pre>
+     */
+    Set<StudyPlanId> findPlanIdsWithAllGoalsAchieved(Collection<StudyPlanId> studyPlanIds);
+    
     /**
      * カテゴリ別の目標達成率を取得
      */
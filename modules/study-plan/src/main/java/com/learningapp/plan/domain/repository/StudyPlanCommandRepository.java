@@ -1,8 +1,12 @@
 package com.learningapp.plan.domain.repository;
 
+import com.learningapp.base.domain.repository.BatchWriteResult;
 import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.plan.domain.entity.StudyGoal;
 import com.learningapp.plan.domain.entity.StudyPlan;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,6 +20,28 @@ public interface StudyPlanCommandRepository {
      */
     void save(StudyPlan studyPlan);
     
+    /**
+     * 学習計画と目標を1文で保存（書き込み可能CTE、1往復）
+     * 1文のため、明示的なトランザクションがなくても計画と目標は全て保存されるか全く保存されないかのどちらかになる
+     * <pre>
+     * WITH plan AS (
+     *     INSERT INTO study_plans (id, user_id, title, description, start_date, end_date,
+     *                              status, target_hours_per_day, created_at, updated_at)
+     *     VALUES (:plan.id, :plan.userId, ...)
+     *     RETURNING id
+     * )
+     * INSERT INTO study_goals (id, study_plan_id, category_id, target_score, target_hours,
+     *                          current_best_score, total_studied_hours, created_at, updated_at)
+     * SELECT g.id, plan.id, g.category_id, g.target_score, g.target_hours, 0, 0, :createdAt, :updatedAt
+     *   FROM plan,
+     *        unnest(:goalIds::uuid[], :categoryIds::uuid[], :targetScores::int[], :targetHours::int[])
+     *            AS g(id, category_id, target_score, target_hours)
+     * </pre>
+     * 
+     * @param studyGoals 計画に属する目標（全て studyPlan のIDを持つこと）
+     */
+    void saveWithGoals(StudyPlan studyPlan, List<StudyGoal> studyGoals);
+    
     /**
      * 学習計画を削除
      */
@@ -23,8 +49,38 @@ public interface StudyPlanCommandRepository {
     
     /**
      * 複数の学習計画を一括保存
+     * app.cqrs.command.batch-size行毎に1回のJDBCバッチで書き込み、行単位の結果を返す
+     */
+    BatchWriteResult saveAll(List<StudyPlan> studyPlans);
+    
+    /**
+     * アクティブな学習計画を一括で完了にする（チャンク毎に1文）
+     * 既に完了・中断した計画は更新しないため、同じIDで繰り返し呼び出してもよい
+     * <pre>
+     * UPDATE study_plans
+     *    SET status = 'COMPLETED'
+     *  WHERE id = ANY(:ids)
+     *    AND status = 'ACTIVE'
+     * </pre>
+     * 
+     * @return 完了にした件数
+     */
+    int completeAll(Collection<StudyPlanId> ids);
+    
+    /**
+     * アクティブな学習計画に期限接近のフラグを立てる（チャンク毎に1文）
+     * フラグは計画毎に1回だけ立てる（通知側は near_deadline_flagged_on で新たに立った計画を拾う）
+     * <pre>
+     * UPDATE study_plans
+     *    SET near_deadline_flagged_on = :asOf
+     *  WHERE id = ANY(:ids)
+     *    AND status = 'ACTIVE'
+     *    AND near_deadline_flagged_on IS NULL
+     * </pre>
+     * 
+     * @return フラグを立てた件数
      */
-    void saveAll(List<StudyPlan> studyPlans);
+    int flagNearDeadline(Collection<StudyPlanId> ids, LocalDate asOf);
     
     /**
      * ユーザーの学習計画を一括削除
@@ -0,0 +1,28 @@
+package com.learningapp.plan.domain.repository;
+
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.plan.domain.entity.StudyPlan;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 終了日順の走査で「最後に処理した行」を表すカーソル（end_date, id）
+ * 
+ * @param endDate 最後に処理した計画の終了日
+ * @param id 最後に処理した計画のID
+ */
+public record StudyPlanDeadlineCursor(LocalDate endDate, StudyPlanId id) {
+    
+    public StudyPlanDeadlineCursor {
+        Objects.requireNonNull(endDate, "End date must not be null");
+        Objects.requireNonNull(id, "ID must not be null");
+    }
+    
+    /**
+     * 指定した計画の直後から読むカーソル
+     */
+    public static StudyPlanDeadlineCursor after(final StudyPlan studyPlan) {
+        return new StudyPlanDeadlineCursor(studyPlan.getEndDate(), studyPlan.getId());
+    }
+}
@@ -0,0 +1,30 @@
+package com.learningapp.plan.domain.repository;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 学習計画ライフサイクル処理の進捗（plan_lifecycle_checkpoints の1行）
+ * 
+ * @param asOf 処理の基準日
+ * @param cursor 最後に処理したチャンクの最終行（未着手の場合はnull）
+ * @param finished 基準日の処理が最後まで終わったか
+ */
+public record StudyPlanLifecycleCheckpoint(LocalDate asOf, StudyPlanDeadlineCursor cursor, boolean finished) {
+    
+    public StudyPlanLifecycleCheckpoint {
+        Objects.requireNonNull(asOf, "As-of date must not be null");
+    }
+    
+    public static StudyPlanLifecycleCheckpoint start(final LocalDate asOf) {
+        return new StudyPlanLifecycleCheckpoint(asOf, null, false);
+    }
+    
+    public StudyPlanLifecycleCheckpoint advance(final StudyPlanDeadlineCursor newCursor) {
+        return new StudyPlanLifecycleCheckpoint(asOf, newCursor, false);
+    }
+    
+    public StudyPlanLifecycleCheckpoint finish() {
+        return new StudyPlanLifecycleCheckpoint(asOf, cursor, true);
+    }
+}
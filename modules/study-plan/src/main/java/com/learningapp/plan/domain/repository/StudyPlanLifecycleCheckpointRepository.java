@@ -0,0 +1,85 @@
+package com.learningapp.plan.domain.repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 学習計画ライフサイクル処理の進捗を保存するRepository
+ * 処理名毎に1行（plan_lifecycle_checkpoints）
+ * 
+ * 行にはリース（locked_by, lease_until）を持ち、リースを持つノードだけが進捗を書き込める。
+ * リースの期限はDBの now() で判定する
+ * 
+ * 進捗を持たない処理（StudyPlanAutoCompletionService）も、別の処理名の行でリースだけを使う
+ */
+public interface StudyPlanLifecycleCheckpointRepository {
+    
+    /**
+     * 処理名の進捗を取得
+     */
+    Optional<StudyPlanLifecycleCheckpoint> findByJobName(String jobName);
+    
+    /**
+     * 処理のリースを取得（行が無ければ基準日の未着手の進捗として作る）
+     * 他ノードのリースが切れていない間は取得できない
+     * <pre>
+     * INSERT INTO plan_lifecycle_checkpoints (job_name, as_of_date, locked_by, lease_until)
+     * VALUES (:jobName, :asOf, :owner, now() + :leaseTime)
+     * ON CONFLICT (job_name) DO UPDATE
+     *    SET locked_by = EXCLUDED.locked_by, lease_until = EXCLUDED.lease_until
+     *  WHERE plan_lifecycle_checkpoints.locked_by IS NULL
+     *     OR plan_lifecycle_checkpoints.lease_until < now()
+     * </pre>
+     * 
+     * @return 取得できたか（挿入・更新が1行）
+     */
+    boolean tryLock(String jobName, String owner, LocalDate asOf, Duration leaseTime);
+    
+    /**
+     * 進捗を保存し、リースを延長する（リースを持つ場合のみ）
+     * <pre>
+     * UPDATE plan_lifecycle_checkpoints
+     *    SET as_of_date = :asOf, last_end_date = :cursor.endDate, last_plan_id = :cursor.id,
+     *        finished = :finished, lease_until = now() + :leaseTime
+     *  WHERE job_name = :jobName
+     *    AND locked_by = :owner
+     * </pre>
+     * 
+     * @return 保存できたか（falseの場合、リースは期限切れ後に他ノードへ移っている）
+     */
+    boolean save(String jobName, String owner, StudyPlanLifecycleCheckpoint checkpoint, Duration leaseTime);
+    
+    /**
+     * 進捗は変えずにリースだけを延長する（リースを持つ場合のみ）
+     * <pre>
+     * UPDATE plan_lifecycle_checkpoints
+     *    SET lease_until = now() + :leaseTime
+     *  WHERE job_name = :jobName
+     *    AND locked_by = :owner
+     * </pre>
+     * 
+     * @return 延長できたか（falseの場合、リースは期限切れ後に他ノードへ移っている）
+     */
+    boolean renewLease(String jobName, String owner, Duration leaseTime);
+    
+    /**
+     * リースを解放（リースを持つ場合のみ）
+     * <pre>
+     * UPDATE plan_lifecycle_checkpoints
+     *    SET locked_by = NULL, lease_until = NULL
+     *  WHERE job_name = :jobName
+     *    AND locked_by = :owner
+     * </pre>
+     */
+    void unlock(String jobName, String owner);
+    
+    /**
+     * いずれかのノードが処理中（リースが有効）か
+     * <pre>
+     * SELECT EXISTS (SELECT 1 FROM plan_lifecycle_checkpoints
+     *                 WHERE job_name = :jobName AND lease_until > now())
+     * </pre>
+     */
+    boolean isLocked(String jobName);
+}
@@ -1,6 +1,8 @@
 package com.learningapp.plan.domain.repository;
 
 import com.learningapp.base.domain.enums.StudyPlanStatus;
+import com.learningapp.base.domain.repository.KeysetPage;
+import com.learningapp.base.domain.repository.PageCursor;
 import com.learningapp.base.domain.valueobject.StudyPlanId;
 import com.learningapp.base.domain.valueobject.UserId;
 import com.learningapp.plan.domain.entity.StudyPlan;
@@ -8,6 +10,7 @@ import com.learningapp.plan.domain.entity.StudyPlan;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * StudyPlan Query Repository
@@ -21,11 +24,22 @@ public interface StudyPlanQueryRepository {
      */
     Optional<StudyPlan> findById(StudyPlanId id);
     
+    /**
+     * 複数IDで一括取得（チャンク毎に1クエリ、要求順で返す）
+     */
+    List<StudyPlan> findAllById(List<StudyPlanId> ids);
+    
     /**
      * 全学習計画を取得
      */
     List<StudyPlan> findAll();
     
+    /**
+     * 全学習計画を逐次取得（サーバーサイドカーソル）
+     * 読み取り専用トランザクション内で呼び出し、try-with-resourcesで必ず閉じること
+     */
+    Stream<StudyPlan> streamAll();
+    
     /**
      * 存在チェック
      */
@@ -36,6 +50,23 @@ public interface StudyPlanQueryRepository {
      */
     long count();
     
+    /**
+     * キーセットページング（created_at, id 順）
+     * 
+     * @param after 直前ページのカーソル（nullの場合は先頭ページ）
+     * @param limit 1ページの件数
+     */
+    KeysetPage<StudyPlan> findPage(PageCursor after, int limit);
+    
+    /**
+     * アクティブな学習計画のキーセットページング（created_at, id 順）
+     * 部分インデックス idx_study_plans_active_created_at_id を走査する
+     * 
+     * @param after 直前ページのカーソル（nullの場合は先頭ページ）
+     * @param limit 1ページの件数
+     */
+    KeysetPage<StudyPlan> findActivePage(PageCursor after, int limit);
+    
     /**
      * ユーザーIDで学習計画を検索
      */
@@ -51,26 +82,92 @@ public interface StudyPlanQueryRepository {
      */
     List<StudyPlan> findOverlappingPlans(UserId userId, LocalDate startDate, LocalDate endDate);
     
+    /**
+     * 期間が重複する学習計画（アクティブ・一時停止中）が存在するか
+     * 期間は開始日・終了日を含む（daterange(start_date, end_date, '[]') の重なり）
+     * <pre>
+     * SELECT EXISTS (
+     *     SELECT 1 FROM study_plans
+     *      WHERE user_id = :userId
+     *        AND status IN ('ACTIVE', 'PAUSED')
+     *        AND start_date <= :endDate AND end_date >= :startDate)
+     * </pre>
+     */
+    boolean existsOverlappingPlan(UserId userId, LocalDate startDate, LocalDate endDate);
+    
     /**
      * アクティブな学習計画を検索
      */
     List<StudyPlan> findActiveByUserId(UserId userId);
     
+    /**
+     * アクティブな学習計画数（idx_study_plans_user_status のインデックスオンリースキャン）
+     */
+    long countActiveByUserId(UserId userId);
+    
+    /**
+     * 学習計画作成前の事前チェック（重複の有無とアクティブな計画数を1クエリで取得）
+     * <pre>
+     * SELECT COALESCE(bool_or(status IN ('ACTIVE', 'PAUSED')
+     *                         AND start_date <= :endDate AND end_date >= :startDate), false) AS overlapping,
+     *        COUNT(*) FILTER (WHERE status = 'ACTIVE') AS active_plans
+     *   FROM study_plans
+     *  WHERE user_id = :userId
+     * </pre>
+     */
+    PlanCreationProbe probeCreation(UserId userId, LocalDate startDate, LocalDate endDate);
+    
     /**
      * 期限切れの学習計画を検索
+     * 
+     * @deprecated 件数上限がないため、一括処理では {@link #findActiveEndingBy} でチャンク毎に走査すること
      */
+    @Deprecated
     List<StudyPlan> findOverduePlans();
     
     /**
      * 期限が近い学習計画を検索（1週間以内）
+     * 
+     * @deprecated 件数上限がないため、一括処理では {@link #findActiveEndingBy} でチャンク毎に走査すること
      */
+    @Deprecated
     List<StudyPlan> findNearDeadlinePlans();
     
+    /**
+     * 終了日が指定日以前のアクティブな学習計画を (end_date, id) 順に取得
+     * 部分インデックス idx_study_plans_active_end_date_id を範囲走査する
+     * <pre>
+     * SELECT *
+     *   FROM study_plans
+     *  WHERE status = 'ACTIVE'
+     *    AND end_date <= :endDateUpTo
+     *    AND (end_date, id) > (:after.endDate, :after.id)  -- afterがnullの場合は条件なし
+     *  ORDER BY end_date, id
+     *  LIMIT :limit
+     * </pre>
+     * 
+     * @param endDateUpTo 終了日の上限（この日を含む）
+     * @param after 直前のチャンクの最終行（nullの場合は先頭から）
+     * @param limit 1チャンクの件数
+     */
+    List<StudyPlan> findActiveEndingBy(LocalDate endDateUpTo, StudyPlanDeadlineCursor after, int limit);
+    
     /**
      * ユーザーの学習計画統計を取得
      */
     StudyPlanStatistics getStatisticsByUserId(UserId userId);
     
+    /**
+     * 学習計画作成前の事前チェック結果
+     * 
+     * @param overlapping 期間が重複する計画が存在するか
+     * @param activePlans アクティブな計画数
+     */
+    record PlanCreationProbe(
+        boolean overlapping,
+        long activePlans
+    ) {}
+    
     /**
      * 学習計画統計の内部クラス
      */
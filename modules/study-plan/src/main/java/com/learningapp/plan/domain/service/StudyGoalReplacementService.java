@@ -0,0 +1,38 @@
+package com.learningapp.plan.domain.service;
+
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.plan.domain.entity.StudyGoal;
+import com.learningapp.plan.domain.repository.StudyGoalCommandRepository;
+import com.learningapp.plan.domain.repository.StudyGoalDiff;
+import com.learningapp.plan.domain.repository.StudyGoalQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 学習計画の目標一覧の置換
+ * 現在の目標と比較し、変わったカテゴリだけを1文で書き込む（書き込み量は変更量に比例する）
+ */
+@Service
+@RequiredArgsConstructor
+public class StudyGoalReplacementService {
+    
+    private final StudyGoalQueryRepository studyGoalQueryRepository;
+    private final StudyGoalCommandRepository studyGoalCommandRepository;
+    
+    /**
+     * 学習計画の目標を置き換える
+     * 目標値が変わらないカテゴリは書き込まず、進捗も引き継ぐ
+     * 
+     * @return 書き込んだ差分（変更がなければ空）
+     */
+    public StudyGoalDiff replaceGoals(final StudyPlanId studyPlanId, final List<StudyGoal> newGoals) {
+        final StudyGoalDiff diff = StudyGoalDiff.between(
+            studyPlanId, studyGoalQueryRepository.findByStudyPlanId(studyPlanId), newGoals);
+        if (!diff.isEmpty()) {
+            studyGoalCommandRepository.applyDiff(diff);
+        }
+        return diff;
+    }
+}
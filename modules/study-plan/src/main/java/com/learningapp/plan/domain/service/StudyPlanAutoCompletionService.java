@@ -0,0 +1,103 @@
+package com.learningapp.plan.domain.service;
+
+import com.learningapp.base.domain.repository.KeysetPage;
+import com.learningapp.base.domain.repository.PageCursor;
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.plan.domain.entity.StudyPlan;
+import com.learningapp.plan.domain.repository.StudyPlanCommandRepository;
+import com.learningapp.plan.domain.repository.StudyPlanLifecycleCheckpointRepository;
+import com.learningapp.plan.domain.repository.StudyPlanQueryRepository;
+import com.learningapp.plan.domain.service.StudyPlanLifecycleService.Outcome;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 学習計画の自動完了サービス
+ * アクティブな計画をキーセット順のチャンクで走査し、チャンク毎に
+ * 目標達成判定（1クエリ） → 一括更新（1文） を行う
+ * 終了日を過ぎた計画の完了は StudyPlanLifecycleService の担当で、ここでは扱わない
+ * 
+ * 更新は status = 'ACTIVE' を条件とするため、途中で失敗しても最初から再実行すればよい
+ * 
+ * 全ノードで同時に起動されても、ライフサイクル処理と同じ plan_lifecycle_checkpoints のリースを
+ * 別の処理名で取れた1ノードだけが走査する。進捗は保存せず、リースはチャンク毎に延長する
+ */
+@Service
+@RequiredArgsConstructor
+public class StudyPlanAutoCompletionService {
+    
+    public static final String JOB_NAME = "study-plan-auto-completion";
+    
+    private static final int CHUNK_SIZE = 1000;
+    
+    private final StudyPlanQueryRepository studyPlanQueryRepository;
+    private final StudyPlanCommandRepository studyPlanCommandRepository;
+    private final StudyPlanDomainService studyPlanDomainService;
+    private final StudyPlanLifecycleCheckpointRepository checkpointRepository;
+    
+    /** このインスタンスのリース所有者ID */
+    private final String owner = UUID.randomUUID().toString();
+    
+    /**
+     * 全目標を達成したアクティブな計画を完了にする
+     * 他ノードが処理中の場合は何もしない
+     * 
+     * @param today 実行日（リースの行を作る場合の基準日）
+     * @param leaseTime リースの有効期間（1チャンクの処理時間より十分長くする）
+     */
+    public AutoCompletionReport completeGoalAchievedPlans(final LocalDate today, final Duration leaseTime) {
+        Objects.requireNonNull(today, "Today must not be null");
+        Objects.requireNonNull(leaseTime, "Lease time must not be null");
+        if (leaseTime.isNegative() || leaseTime.isZero()) {
+            throw new IllegalArgumentException("リースの有効期間は正の値で指定してください");
+        }
+        
+        if (!checkpointRepository.tryLock(JOB_NAME, owner, today, leaseTime)) {
+            return new AutoCompletionReport(Outcome.LOCKED, 0, 0);
+        }
+        try {
+            return completeUnderLease(leaseTime);
+        } finally {
+            checkpointRepository.unlock(JOB_NAME, owner);
+        }
+    }
+    
+    private AutoCompletionReport completeUnderLease(final Duration leaseTime) {
+        long scannedPlans = 0;
+        long completedPlans = 0;
+        
+        PageCursor cursor = null;
+        do {
+            final KeysetPage<StudyPlan> page = studyPlanQueryRepository.findActivePage(cursor, CHUNK_SIZE);
+            scannedPlans += page.content().size();
+            
+            final Set<StudyPlanId> completable = studyPlanDomainService.findGoalAchievedPlanIds(page.content());
+            if (!completable.isEmpty()) {
+                completedPlans += studyPlanCommandRepository.completeAll(completable);
+            }
+            cursor = page.nextCursor();
+            
+            if (cursor != null && !checkpointRepository.renewLease(JOB_NAME, owner, leaseTime)) {
+                // リースが他ノードへ移った（更新は冪等なため、残りは次回の実行で処理される）
+                return new AutoCompletionReport(Outcome.LEASE_LOST, scannedPlans, completedPlans);
+            }
+        } while (cursor != null);
+        
+        return new AutoCompletionReport(Outcome.FINISHED, scannedPlans, completedPlans);
+    }
+    
+    /**
+     * 自動完了の結果
+     * 
+     * @param outcome 実行結果（FINISHED / LOCKED / LEASE_LOST のいずれか）
+     * @param scannedPlans 走査したアクティブな計画数
+     * @param completedPlans 完了にした計画数
+     */
+    public record AutoCompletionReport(Outcome outcome, long scannedPlans, long completedPlans) {}
+}
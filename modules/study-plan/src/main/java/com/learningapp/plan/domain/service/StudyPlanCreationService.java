@@ -0,0 +1,58 @@
+package com.learningapp.plan.domain.service;
+
+import com.learningapp.base.domain.valueobject.StudyCategoryId;
+import com.learningapp.base.domain.valueobject.UserId;
+import com.learningapp.plan.domain.entity.StudyGoal;
+import com.learningapp.plan.domain.entity.StudyPlan;
+import com.learningapp.plan.domain.factory.StudyGoalFactory;
+import com.learningapp.plan.domain.factory.StudyPlanFactory;
+import com.learningapp.plan.domain.repository.StudyPlanCommandRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 学習計画の作成コマンド
+ * 
+ * 計画と目標の生成・検証はメモリ上で済ませ、DBへは 事前チェック1クエリ + 保存1文 の2往復で作成する
+ * 事前チェックと保存の間に別の作成が割り込んだ場合は、DBの制約（V008）が同じ例外で弾く
+ * 
+ * レイテンシは study.plan.create（p50 / p99）に記録する
+ */
+@Service
+@RequiredArgsConstructor
+public class StudyPlanCreationService {
+    
+    private final StudyPlanFactory studyPlanFactory;
+    private final StudyGoalFactory studyGoalFactory;
+    private final StudyPlanDomainService studyPlanDomainService;
+    private final StudyPlanCommandRepository studyPlanCommandRepository;
+    
+    /**
+     * データベーススペシャリスト試験用の学習計画をデフォルト目標付きで作成
+     * 
+     * @param categoryIds デフォルト目標のカテゴリ（午前I〜運用管理の8つ、この順）
+     */
+    @Timed(value = "study.plan.create", extraTags = {"template", "database-specialist"},
+           percentiles = {0.5, 0.99}, histogram = true)
+    public CreatedStudyPlan createDatabaseSpecialistPlan(final UserId userId, final LocalDate examDate,
+                                                         final List<StudyCategoryId> categoryIds) {
+        final StudyPlan studyPlan = studyPlanFactory.createDatabaseSpecialistPlan(userId, examDate);
+        final List<StudyGoal> goals = studyGoalFactory.createDefaultDatabaseSpecialistGoals(studyPlan.getId(), categoryIds);
+        
+        studyPlanDomainService.validateNewStudyPlan(userId, studyPlan.getStartDate(), studyPlan.getEndDate());
+        studyPlanCommandRepository.saveWithGoals(studyPlan, goals);
+        return new CreatedStudyPlan(studyPlan, goals);
+    }
+    
+    /**
+     * 作成した学習計画と目標
+     */
+    public record CreatedStudyPlan(
+        StudyPlan studyPlan,
+        List<StudyGoal> goals
+    ) {}
+}
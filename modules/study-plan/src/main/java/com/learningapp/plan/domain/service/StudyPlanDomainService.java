@@ -3,12 +3,16 @@ package com.learningapp.plan.domain.service;
 import com.learningapp.base.domain.valueobject.StudyPlanId;
 import com.learningapp.base.domain.valueobject.UserId;
 import com.learningapp.plan.domain.entity.StudyPlan;
+import com.learningapp.plan.domain.repository.StudyGoalQueryRepository;
 import com.learningapp.plan.domain.repository.StudyPlanQueryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 学習計画ドメインサービス
@@ -19,18 +23,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StudyPlanDomainService {
     
+    /** 同時に実行できる学習計画数の上限（V008 のトリガーと揃える） */
+    public static final int MAX_ACTIVE_PLANS = 3;
+    
     private final StudyPlanQueryRepository studyPlanQueryRepository;
+    private final StudyGoalQueryRepository studyGoalQueryRepository;
     
     /**
      * 学習計画作成時の重複チェック
      */
     public void validateStudyPlanCreation(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
-        final List<StudyPlan> overlappingPlans = studyPlanQueryRepository.findOverlappingPlans(userId, startDate, endDate);
-        
-        if (!overlappingPlans.isEmpty()) {
-            throw new IllegalArgumentException(
-                String.format("指定期間（%s〜%s）に重複する学習計画が存在します", startDate, endDate)
-            );
+        if (studyPlanQueryRepository.existsOverlappingPlan(userId, startDate, endDate)) {
+            throw overlappingPlanException(startDate, endDate);
         }
     }
     
@@ -38,13 +42,42 @@ public class StudyPlanDomainService {
      * ユーザーのアクティブな学習計画数チェック
      */
     public void validateActiveStudyPlanLimit(final UserId userId) {
-        final List<StudyPlan> activePlans = studyPlanQueryRepository.findActiveByUserId(userId);
-        
-        if (activePlans.size() >= 3) {
-            throw new IllegalArgumentException("同時に実行できる学習計画は3つまでです");
+        if (studyPlanQueryRepository.countActiveByUserId(userId) >= MAX_ACTIVE_PLANS) {
+            throw activePlanLimitException();
+        }
+    }
+    
+    /**
+     * 学習計画作成時の事前チェック（重複・アクティブな計画数を1クエリで確認）
+     * 同時に作成された場合はDBの制約で弾かれる（ConstraintTranslatingStudyPlanCommandRepository が同じ例外に変換する）
+     */
+    public void validateNewStudyPlan(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        final StudyPlanQueryRepository.PlanCreationProbe probe =
+            studyPlanQueryRepository.probeCreation(userId, startDate, endDate);
+        if (probe.overlapping()) {
+            throw overlappingPlanException(startDate, endDate);
+        }
+        if (probe.activePlans() >= MAX_ACTIVE_PLANS) {
+            throw activePlanLimitException();
         }
     }
     
+    /**
+     * 期間重複時の例外（事前チェックと制約違反で同じメッセージを使う）
+     */
+    public static IllegalArgumentException overlappingPlanException(final LocalDate startDate, final LocalDate endDate) {
+        return new IllegalArgumentException(
+            String.format("指定期間（%s〜%s）に重複する学習計画が存在します", startDate, endDate)
+        );
+    }
+    
+    /**
+     * アクティブな計画数の上限超過時の例外
+     */
+    public static IllegalArgumentException activePlanLimitException() {
+        return new IllegalArgumentException("同時に実行できる学習計画は" + MAX_ACTIVE_PLANS + "つまでです");
+    }
+    
     /**
      * 学習計画の削除可能性チェック
      */
@@ -63,6 +96,23 @@ public class StudyPlanDomainService {
                hasAllGoalsAchieved(studyPlan.getId());
     }
     
+    /**
+     * 複数の学習計画のうち全目標を達成したものを1クエリで判定する
+     * 終了日経過による完了は StudyPlanLifecycleService が担うため、ここでは終了日を見ない
+     * 
+     * @return 全目標を達成した計画のID
+     */
+    public Set<StudyPlanId> findGoalAchievedPlanIds(final Collection<StudyPlan> studyPlans) {
+        if (studyPlans.isEmpty()) {
+            return Set.of();
+        }
+        final List<StudyPlanId> planIds = new ArrayList<>(studyPlans.size());
+        for (final StudyPlan studyPlan : studyPlans) {
+            planIds.add(studyPlan.getId());
+        }
+        return studyGoalQueryRepository.findPlanIdsWithAllGoalsAchieved(planIds);
+    }
+    
     /**
      * 学習計画の効率性分析
      */
@@ -127,8 +177,7 @@ public class StudyPlanDomainService {
     }
     
     private boolean hasAllGoalsAchieved(final StudyPlanId studyPlanId) {
-        // TODO: StudyGoal の実装完了後に実装
-        return false;
+        return studyGoalQueryRepository.areAllGoalsAchieved(studyPlanId);
     }
     
     /**
@@ -0,0 +1,179 @@
+package com.learningapp.plan.domain.service;
+
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.plan.domain.entity.StudyPlan;
+import com.learningapp.plan.domain.repository.StudyPlanCommandRepository;
+import com.learningapp.plan.domain.repository.StudyPlanDeadlineCursor;
+import com.learningapp.plan.domain.repository.StudyPlanLifecycleCheckpoint;
+import com.learningapp.plan.domain.repository.StudyPlanLifecycleCheckpointRepository;
+import com.learningapp.plan.domain.repository.StudyPlanQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 学習計画のライフサイクル処理
+ * 期限切れの計画を完了にし、期限が近い計画にフラグを立てる
+ * 
+ * 終了日が「基準日 + 7日」以前のアクティブな計画だけを (end_date, id) 順のチャンクで走査し、
+ * チャンク毎に 一括更新 → 進捗の保存 を行う。再起動後は保存した進捗の続きから再開する
+ * 
+ * 更新は条件付き（アクティブな計画のみ・フラグ未設定のみ）のため、
+ * 進捗を保存する前に中断したチャンクを再処理しても結果は変わらない
+ * 
+ * 全ノードで同時に起動されても、進捗の行のリースを取れた1ノードだけが処理する。
+ * リースはチャンク毎の進捗保存で延長し、ノードが落ちた場合は期限切れ後に他ノードが続きを引き継ぐ
+ */
+@Service
+@RequiredArgsConstructor
+public class StudyPlanLifecycleService {
+    
+    public static final String JOB_NAME = "study-plan-lifecycle";
+    
+    private final StudyPlanQueryRepository studyPlanQueryRepository;
+    private final StudyPlanCommandRepository studyPlanCommandRepository;
+    private final StudyPlanLifecycleCheckpointRepository checkpointRepository;
+    
+    /** このインスタンスのリース所有者ID */
+    private final String owner = UUID.randomUUID().toString();
+    
+    /**
+     * 基準日のライフサイクル処理を実行（途中まで終わっていれば続きから）
+     * 他ノードが処理中の場合は何もしない
+     * 
+     * @param asOf 判定の基準日（処理中に日付が変わっても同じ基準日で判定する）
+     * @param chunkSize 1チャンクの件数
+     * @param leaseTime リースの有効期間（1チャンクの処理時間より十分長くする）
+     */
+    public LifecycleReport run(final LocalDate asOf, final int chunkSize, final Duration leaseTime) {
+        Objects.requireNonNull(asOf, "As-of date must not be null");
+        Objects.requireNonNull(leaseTime, "Lease time must not be null");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("チャンクサイズは1以上で指定してください");
+        }
+        if (leaseTime.isNegative() || leaseTime.isZero()) {
+            throw new IllegalArgumentException("リースの有効期間は正の値で指定してください");
+        }
+        
+        if (!checkpointRepository.tryLock(JOB_NAME, owner, asOf, leaseTime)) {
+            return LifecycleReport.notRun(asOf, Outcome.LOCKED);
+        }
+        try {
+            return process(asOf, chunkSize, leaseTime);
+        } finally {
+            checkpointRepository.unlock(JOB_NAME, owner);
+        }
+    }
+    
+    private LifecycleReport process(final LocalDate asOf, final int chunkSize, final Duration leaseTime) {
+        StudyPlanLifecycleCheckpoint checkpoint = checkpointRepository.findByJobName(JOB_NAME)
+            .filter(saved -> saved.asOf().equals(asOf))
+            .orElseGet(() -> StudyPlanLifecycleCheckpoint.start(asOf));
+        if (checkpoint.finished()) {
+            return LifecycleReport.notRun(asOf, Outcome.ALREADY_FINISHED);
+        }
+        final boolean resumed = checkpoint.cursor() != null;
+        
+        final LocalDate endDateUpTo = asOf.plusDays(StudyPlan.NEAR_DEADLINE_DAYS);
+        long scannedPlans = 0;
+        long completedPlans = 0;
+        long flaggedPlans = 0;
+        
+        while (true) {
+            final List<StudyPlan> chunk = studyPlanQueryRepository.findActiveEndingBy(
+                endDateUpTo, checkpoint.cursor(), chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            scannedPlans += chunk.size();
+            
+            final List<StudyPlanId> overdue = new ArrayList<>();
+            final List<StudyPlanId> nearDeadline = new ArrayList<>();
+            for (final StudyPlan studyPlan : chunk) {
+                if (studyPlan.isOverdue(asOf)) {
+                    // 状態遷移の検証はエンティティに任せ、書き込みは条件付きUPDATEにまとめる
+                    overdue.add(studyPlan.complete().getId());
+                } else if (studyPlan.isNearDeadline(asOf)) {
+                    nearDeadline.add(studyPlan.getId());
+                }
+            }
+            if (!overdue.isEmpty()) {
+                completedPlans += studyPlanCommandRepository.completeAll(overdue);
+            }
+            if (!nearDeadline.isEmpty()) {
+                flaggedPlans += studyPlanCommandRepository.flagNearDeadline(nearDeadline, asOf);
+            }
+            
+            checkpoint = checkpoint.advance(StudyPlanDeadlineCursor.after(chunk.get(chunk.size() - 1)));
+            if (!checkpointRepository.save(JOB_NAME, owner, checkpoint, leaseTime)) {
+                // リースが他ノードへ移った（続きはそちらが処理する）
+                return new LifecycleReport(asOf, Outcome.LEASE_LOST, resumed, scannedPlans, completedPlans, flaggedPlans);
+            }
+            
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        
+        final Outcome outcome = checkpointRepository.save(JOB_NAME, owner, checkpoint.finish(), leaseTime)
+            ? Outcome.FINISHED
+            : Outcome.LEASE_LOST;
+        return new LifecycleReport(asOf, outcome, resumed, scannedPlans, completedPlans, flaggedPlans);
+    }
+    
+    /**
+     * 基準日の処理が途中で中断されたままか
+     * いずれかのノードが処理中（リースが有効）の場合は中断とみなさない
+     */
+    public boolean isInterrupted(final LocalDate asOf) {
+        final boolean unfinished = checkpointRepository.findByJobName(JOB_NAME)
+            .filter(saved -> saved.asOf().equals(asOf))
+            .map(saved -> !saved.finished())
+            .orElse(false);
+        return unfinished && !checkpointRepository.isLocked(JOB_NAME);
+    }
+    
+    /**
+     * ライフサイクル処理の結果（今回の実行分）
+     * 
+     * @param asOf 基準日
+     * @param outcome 実行結果
+     * @param resumed 前回中断した位置から再開したか
+     * @param scannedPlans 走査した計画数
+     * @param completedPlans 期限切れで完了にした計画数
+     * @param flaggedPlans 期限接近のフラグを立てた計画数
+     */
+    public record LifecycleReport(
+        LocalDate asOf,
+        Outcome outcome,
+        boolean resumed,
+        long scannedPlans,
+        long completedPlans,
+        long flaggedPlans
+    ) {
+        
+        static LifecycleReport notRun(final LocalDate asOf, final Outcome outcome) {
+            return new LifecycleReport(asOf, outcome, false, 0, 0, 0);
+        }
+    }
+    
+    /**
+     * ライフサイクル処理の実行結果
+     */
+    public enum Outcome {
+        /** 基準日の処理を最後まで終えた */
+        FINISHED,
+        /** 基準日の処理は既に終わっていた */
+        ALREADY_FINISHED,
+        /** 他ノードが処理中のため実行しなかった */
+        LOCKED,
+        /** 処理中にリースが期限切れで他ノードへ移ったため中断した */
+        LEASE_LOST
+    }
+}
@@ -0,0 +1,173 @@
+package com.learningapp.plan.domain.strategy;
+
+import com.learningapp.plan.domain.entity.StudyGoal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+
+/**
+ * 難易度判定の閾値表
+ * 
+ * 戦略の一覧（先に該当したものを採用）を、スコア・時間それぞれの閾値で区切った区間の二次元表に事前コンパイルする。
+ * 同じ区間内の値はどの戦略に該当するかが変わらないため、判定は区間の特定と表の参照だけで済む
+ * 
+ * 不変オブジェクトのため複数スレッドから共有できる（Effective Java Item 17）
+ * 閾値は {@link #install(DifficultyTable)} で差し替える（study-all の app.plan.difficulty）
+ */
+public final class DifficultyTable {
+    
+    /**
+     * 既定の戦略（難易度順）
+     */
+    public static final List<ThresholdDifficultyStrategy> DEFAULT_STRATEGIES = List.of(
+        new ThresholdDifficultyStrategy(90, 50, StudyGoal.GoalDifficulty.VERY_HARD,
+            "非常に高い目標です。計画的な学習と十分な休息を心がけてください。"),
+        new ThresholdDifficultyStrategy(80, 30, StudyGoal.GoalDifficulty.HARD,
+            "挑戦的な目標です。継続的な学習が重要になります。"),
+        new ThresholdDifficultyStrategy(70, 20, StudyGoal.GoalDifficulty.MEDIUM,
+            "バランスの取れた目標です。着実に進めていきましょう。"),
+        new ThresholdDifficultyStrategy(60, 10, StudyGoal.GoalDifficulty.EASY,
+            "取り組みやすい目標です。基礎をしっかり固めましょう。"),
+        ThresholdDifficultyStrategy.fallback(StudyGoal.GoalDifficulty.VERY_EASY,
+            "無理のない目標です。まずは学習習慣を身につけることから始めましょう。")
+    );
+    
+    private static final DifficultyTable DEFAULT = compile(DEFAULT_STRATEGIES);
+    
+    private static volatile DifficultyTable current = DEFAULT;
+    
+    private final List<DifficultyStrategy> strategies;
+    
+    /** 値 → 区間番号（閾値の最大値を超える値は末尾の区間） */
+    private final int[] scoreBuckets;
+    private final int[] hoursBuckets;
+    
+    /** [スコア区間 * 時間区間数 + 時間区間] → 該当する戦略 */
+    private final ThresholdDifficultyStrategy[] cells;
+    private final int hoursBucketCount;
+    
+    private DifficultyTable(final List<ThresholdDifficultyStrategy> strategies) {
+        this.strategies = List.copyOf(strategies);
+        
+        final int[] scoreThresholds = thresholds(strategies, ThresholdDifficultyStrategy::minScore);
+        final int[] hoursThresholds = thresholds(strategies, ThresholdDifficultyStrategy::minHours);
+        this.scoreBuckets = buckets(scoreThresholds);
+        this.hoursBuckets = buckets(hoursThresholds);
+        this.hoursBucketCount = hoursThresholds.length;
+        
+        // 各区間の下端の値で戦略を評価する（閾値判定は区間内で結果が変わらない）
+        this.cells = new ThresholdDifficultyStrategy[scoreThresholds.length * hoursThresholds.length];
+        for (int s = 0; s < scoreThresholds.length; s++) {
+            for (int h = 0; h < hoursThresholds.length; h++) {
+                cells[s * hoursBucketCount + h] = firstMatch(strategies, scoreThresholds[s], hoursThresholds[h]);
+            }
+        }
+    }
+    
+    /**
+     * 戦略の一覧から閾値表を作成
+     * 
+     * @param strategies 判定順に並べた戦略（末尾に全ての目標に該当する戦略を含むこと）
+     */
+    public static DifficultyTable compile(final List<ThresholdDifficultyStrategy> strategies) {
+        Objects.requireNonNull(strategies, "Strategies must not be null");
+        if (strategies.stream().noneMatch(ThresholdDifficultyStrategy::isFallback)) {
+            throw new IllegalArgumentException("全ての目標に該当する戦略（閾値0）が必要です");
+        }
+        return new DifficultyTable(strategies);
+    }
+    
+    /**
+     * 現在の閾値表
+     */
+    public static DifficultyTable current() {
+        return current;
+    }
+    
+    /**
+     * 閾値表を差し替える（アプリケーション起動時に設定から読み込んだ表を登録する）
+     */
+    public static void install(final DifficultyTable table) {
+        current = Objects.requireNonNull(table, "Difficulty table must not be null");
+    }
+    
+    /**
+     * 既定の閾値表に戻す
+     */
+    public static void reset() {
+        current = DEFAULT;
+    }
+    
+    /**
+     * 目標スコア・目標時間に該当する戦略
+     * 負の値は0として扱う
+     */
+    public DifficultyStrategy classify(final int targetScore, final int targetHours) {
+        return cells[bucket(scoreBuckets, targetScore) * hoursBucketCount + bucket(hoursBuckets, targetHours)];
+    }
+    
+    /**
+     * 目標の一覧をまとめて判定（結果は入力と同じ順序）
+     */
+    public List<DifficultyStrategy> classifyAll(final List<StudyGoal> goals) {
+        final List<DifficultyStrategy> result = new ArrayList<>(goals.size());
+        for (final StudyGoal goal : goals) {
+            result.add(classify(goal.getTargetScore(), goal.getTargetHours()));
+        }
+        return result;
+    }
+    
+    /**
+     * 判定順の戦略
+     */
+    public List<DifficultyStrategy> getStrategies() {
+        return strategies;
+    }
+    
+    private static int bucket(final int[] buckets, final int value) {
+        if (value <= 0) {
+            return 0;
+        }
+        return value < buckets.length ? buckets[value] : buckets[buckets.length - 1];
+    }
+    
+    /**
+     * 0を含む昇順の閾値
+     */
+    private static int[] thresholds(final List<ThresholdDifficultyStrategy> strategies,
+                                    final ToIntFunction<ThresholdDifficultyStrategy> threshold) {
+        final TreeSet<Integer> values = new TreeSet<>();
+        values.add(0);
+        strategies.forEach(strategy -> values.add(threshold.applyAsInt(strategy)));
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    /**
+     * 0から最大の閾値までの各値が属する区間番号
+     */
+    private static int[] buckets(final int[] thresholds) {
+        final int[] buckets = new int[thresholds[thresholds.length - 1] + 1];
+        int bucket = 0;
+        for (int value = 0; value < buckets.length; value++) {
+            if (bucket + 1 < thresholds.length && value >= thresholds[bucket + 1]) {
+                bucket++;
+            }
+            buckets[value] = bucket;
+        }
+        return buckets;
+    }
+    
+    private static ThresholdDifficultyStrategy firstMatch(final List<ThresholdDifficultyStrategy> strategies,
+                                                          final int targetScore,
+                                                          final int targetHours) {
+        for (final ThresholdDifficultyStrategy strategy : strategies) {
+            if (strategy.matches(targetScore, targetHours)) {
+                return strategy;
+            }
+        }
+        throw new IllegalStateException("No strategy matches score=" + targetScore + ", hours=" + targetHours);
+    }
+}
@@ -0,0 +1,57 @@
+package com.learningapp.plan.domain.strategy;
+
+import com.learningapp.plan.domain.entity.StudyGoal;
+
+import java.util.Objects;
+
+/**
+ * 目標スコアと目標時間の下限で判定する戦略
+ * 両方の下限を満たす目標に該当する
+ * 
+ * @param minScore 目標スコアの下限
+ * @param minHours 目標時間の下限
+ * @param difficulty 該当した場合の難易度
+ * @param recommendation 該当した場合の推奨事項
+ */
+public record ThresholdDifficultyStrategy(
+    int minScore,
+    int minHours,
+    StudyGoal.GoalDifficulty difficulty,
+    String recommendation
+) implements DifficultyStrategy {
+    
+    public ThresholdDifficultyStrategy {
+        Objects.requireNonNull(difficulty, "Difficulty must not be null");
+        Objects.requireNonNull(recommendation, "Recommendation must not be null");
+        if (minScore < 0 || minHours < 0) {
+            throw new IllegalArgumentException("難易度の閾値は0以上である必要があります");
+        }
+    }
+    
+    /**
+     * 全ての目標に該当する戦略（閾値表の末尾に置く）
+     */
+    public static ThresholdDifficultyStrategy fallback(final StudyGoal.GoalDifficulty difficulty,
+                                                       final String recommendation) {
+        return new ThresholdDifficultyStrategy(0, 0, difficulty, recommendation);
+    }
+    
+    public boolean isFallback() {
+        return minScore == 0 && minHours == 0;
+    }
+    
+    @Override
+    public boolean matches(final int targetScore, final int targetHours) {
+        return targetScore >= minScore && targetHours >= minHours;
+    }
+    
+    @Override
+    public StudyGoal.GoalDifficulty getDifficulty() {
+        return difficulty;
+    }
+    
+    @Override
+    public String getRecommendation() {
+        return recommendation;
+    }
+}
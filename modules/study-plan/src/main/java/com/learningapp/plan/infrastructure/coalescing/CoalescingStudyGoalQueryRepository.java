@@ -0,0 +1,128 @@
+package com.learningapp.plan.infrastructure.coalescing;
+
+import com.learningapp.base.domain.repository.KeysetPage;
+import com.learningapp.base.domain.repository.PageCursor;
+import com.learningapp.base.domain.valueobject.StudyCategoryId;
+import com.learningapp.base.domain.valueobject.StudyGoalId;
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.base.infrastructure.concurrent.SingleFlight;
+import com.learningapp.plan.domain.entity.StudyGoal;
+import com.learningapp.plan.domain.repository.StudyGoalQueryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 同時に発行された同一の達成率クエリを1回にまとめるStudyGoal Query Repository
+ * 結果は呼び出し元間で共有するため、不変リストにして返す
+ * 
+ * 読み書きトランザクション内の呼び出しは、未コミットの書き込みが見える必要があるためまとめずに委譲する
+ */
+public class CoalescingStudyGoalQueryRepository implements StudyGoalQueryRepository, MeterBinder {
+    
+    private final StudyGoalQueryRepository delegate;
+    private final SingleFlight<StudyPlanId, List<GoalAchievementSummary>> summaryFlight;
+    
+    public CoalescingStudyGoalQueryRepository(final StudyGoalQueryRepository delegate, final Duration maxWait) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate repository must not be null");
+        this.summaryFlight = new SingleFlight<>(maxWait);
+    }
+    
+    @Override
+    public List<GoalAchievementSummary> getAchievementSummaryByStudyPlan(final StudyPlanId studyPlanId) {
+        if (CoalescingSupport.isInReadWriteTransaction()) {
+            return delegate.getAchievementSummaryByStudyPlan(studyPlanId);
+        }
+        return summaryFlight.execute(studyPlanId,
+            () -> List.copyOf(delegate.getAchievementSummaryByStudyPlan(studyPlanId)));
+    }
+    
+    /**
+     * getAchievementSummaryByStudyPlan のまとめ状況
+     */
+    public SingleFlight.Stats getAchievementSummaryStats() {
+        return summaryFlight.getStats();
+    }
+    
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CoalescingSupport.bindFlight(registry, summaryFlight, "study-goal", "getAchievementSummaryByStudyPlan");
+    }
+    
+    @Override
+    public Optional<StudyGoal> findById(final StudyGoalId id) {
+        return delegate.findById(id);
+    }
+    
+    @Override
+    public List<StudyGoal> findAllById(final List<StudyGoalId> ids) {
+        return delegate.findAllById(ids);
+    }
+    
+    @Override
+    public List<StudyGoal> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public boolean existsById(final StudyGoalId id) {
+        return delegate.existsById(id);
+    }
+    
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+    
+    @Override
+    public KeysetPage<StudyGoal> findPage(final PageCursor after, final int limit) {
+        return delegate.findPage(after, limit);
+    }
+    
+    @Override
+    public List<StudyGoal> findByStudyPlanId(final StudyPlanId studyPlanId) {
+        return delegate.findByStudyPlanId(studyPlanId);
+    }
+    
+    @Override
+    public Optional<StudyGoal> findByStudyPlanIdAndCategoryId(final StudyPlanId studyPlanId,
+                                                              final StudyCategoryId categoryId) {
+        return delegate.findByStudyPlanIdAndCategoryId(studyPlanId, categoryId);
+    }
+    
+    @Override
+    public List<StudyGoal> findAchievedGoalsByStudyPlanId(final StudyPlanId studyPlanId) {
+        return delegate.findAchievedGoalsByStudyPlanId(studyPlanId);
+    }
+    
+    @Override
+    public List<StudyGoal> findUnachievedGoalsByStudyPlanId(final StudyPlanId studyPlanId) {
+        return delegate.findUnachievedGoalsByStudyPlanId(studyPlanId);
+    }
+    
+    @Override
+    public List<StudyGoal> findHoursAchievedGoalsByStudyPlanId(final StudyPlanId studyPlanId) {
+        return delegate.findHoursAchievedGoalsByStudyPlanId(studyPlanId);
+    }
+    
+    @Override
+    public List<StudyGoal> findScoreAchievedGoalsByStudyPlanId(final StudyPlanId studyPlanId) {
+        return delegate.findScoreAchievedGoalsByStudyPlanId(studyPlanId);
+    }
+    
+    @Override
+    public boolean areAllGoalsAchieved(final StudyPlanId studyPlanId) {
+        return delegate.areAllGoalsAchieved(studyPlanId);
+    }
+    
+    @Override
+    public Set<StudyPlanId> findPlanIdsWithAllGoalsAchieved(final Collection<StudyPlanId> studyPlanIds) {
+        return delegate.findPlanIdsWithAllGoalsAchieved(studyPlanIds);
+    }
+}
@@ -0,0 +1,151 @@
+package com.learningapp.plan.infrastructure.coalescing;
+
+import com.learningapp.base.domain.enums.StudyPlanStatus;
+import com.learningapp.base.domain.repository.KeysetPage;
+import com.learningapp.base.domain.repository.PageCursor;
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.base.domain.valueobject.UserId;
+import com.learningapp.base.infrastructure.concurrent.SingleFlight;
+import com.learningapp.plan.domain.entity.StudyPlan;
+import com.learningapp.plan.domain.repository.StudyPlanDeadlineCursor;
+import com.learningapp.plan.domain.repository.StudyPlanQueryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 同時に発行された同一の統計クエリを1回にまとめるStudyPlan Query Repository
+ * ダッシュボードの一斉更新で getStatisticsByUserId が同じユーザーに集中する場合の対策
+ * 
+ * 読み書きトランザクション内の呼び出しは、未コミットの書き込みが見える必要があるためまとめずに委譲する
+ */
+public class CoalescingStudyPlanQueryRepository implements StudyPlanQueryRepository, MeterBinder {
+    
+    private final StudyPlanQueryRepository delegate;
+    private final SingleFlight<UserId, StudyPlanStatistics> statisticsFlight;
+    
+    public CoalescingStudyPlanQueryRepository(final StudyPlanQueryRepository delegate, final Duration maxWait) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate repository must not be null");
+        this.statisticsFlight = new SingleFlight<>(maxWait);
+    }
+    
+    @Override
+    public StudyPlanStatistics getStatisticsByUserId(final UserId userId) {
+        if (CoalescingSupport.isInReadWriteTransaction()) {
+            return delegate.getStatisticsByUserId(userId);
+        }
+        return statisticsFlight.execute(userId, () -> delegate.getStatisticsByUserId(userId));
+    }
+    
+    /**
+     * getStatisticsByUserId のまとめ状況
+     */
+    public SingleFlight.Stats getStatisticsStats() {
+        return statisticsFlight.getStats();
+    }
+    
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CoalescingSupport.bindFlight(registry, statisticsFlight, "study-plan", "getStatisticsByUserId");
+    }
+    
+    @Override
+    public Optional<StudyPlan> findById(final StudyPlanId id) {
+        return delegate.findById(id);
+    }
+    
+    @Override
+    public List<StudyPlan> findAllById(final List<StudyPlanId> ids) {
+        return delegate.findAllById(ids);
+    }
+    
+    @Override
+    public List<StudyPlan> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public Stream<StudyPlan> streamAll() {
+        return delegate.streamAll();
+    }
+    
+    @Override
+    public boolean existsById(final StudyPlanId id) {
+        return delegate.existsById(id);
+    }
+    
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+    
+    @Override
+    public KeysetPage<StudyPlan> findPage(final PageCursor after, final int limit) {
+        return delegate.findPage(after, limit);
+    }
+    
+    @Override
+    public KeysetPage<StudyPlan> findActivePage(final PageCursor after, final int limit) {
+        return delegate.findActivePage(after, limit);
+    }
+    
+    @Override
+    public List<StudyPlan> findByUserId(final UserId userId) {
+        return delegate.findByUserId(userId);
+    }
+    
+    @Override
+    public List<StudyPlan> findByUserIdAndStatus(final UserId userId, final StudyPlanStatus status) {
+        return delegate.findByUserIdAndStatus(userId, status);
+    }
+    
+    @Override
+    public List<StudyPlan> findOverlappingPlans(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        return delegate.findOverlappingPlans(userId, startDate, endDate);
+    }
+    
+    @Override
+    public boolean existsOverlappingPlan(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        return delegate.existsOverlappingPlan(userId, startDate, endDate);
+    }
+    
+    @Override
+    public List<StudyPlan> findActiveByUserId(final UserId userId) {
+        return delegate.findActiveByUserId(userId);
+    }
+    
+    @Override
+    public long countActiveByUserId(final UserId userId) {
+        return delegate.countActiveByUserId(userId);
+    }
+    
+    @Override
+    public PlanCreationProbe probeCreation(final UserId userId, final LocalDate startDate, final LocalDate endDate) {
+        return delegate.probeCreation(userId, startDate, endDate);
+    }
+    
+    @Override
+    @Deprecated
+    public List<StudyPlan> findOverduePlans() {
+        return delegate.findOverduePlans();
+    }
+    
+    @Override
+    @Deprecated
+    public List<StudyPlan> findNearDeadlinePlans() {
+        return delegate.findNearDeadlinePlans();
+    }
+    
+    @Override
+    public List<StudyPlan> findActiveEndingBy(final LocalDate endDateUpTo,
+                                              final StudyPlanDeadlineCursor after,
+                                              final int limit) {
+        return delegate.findActiveEndingBy(endDateUpTo, after, limit);
+    }
+}
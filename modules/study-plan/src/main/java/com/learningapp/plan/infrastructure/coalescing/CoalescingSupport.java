@@ -0,0 +1,42 @@
+package com.learningapp.plan.infrastructure.coalescing;
+
+import com.learningapp.base.infrastructure.concurrent.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 呼び出しをまとめてよいかの判定とまとめ状況のメトリクス登録
+ */
+final class CoalescingSupport {
+    
+    private CoalescingSupport() {
+    }
+    
+    /**
+     * 読み書きトランザクション内か（他の呼び出しの結果を共有すると自分の未コミットの書き込みが見えなくなる）
+     */
+    static boolean isInReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+    
+    /**
+     * single-flightの集計を repository / method タグ付きのカウンターとして登録する
+     */
+    static void bindFlight(final MeterRegistry registry, final SingleFlight<?, ?> flight,
+                           final String repository, final String method) {
+        FunctionCounter.builder("repository.coalescing.executions", flight, f -> f.getStats().executions())
+            .tags("repository", repository, "method", method)
+            .description("DBへ実際に問い合わせた回数")
+            .register(registry);
+        FunctionCounter.builder("repository.coalescing.collapsed", flight, f -> f.getStats().collapsed())
+            .tags("repository", repository, "method", method)
+            .description("実行中の呼び出しに相乗りした回数")
+            .register(registry);
+        FunctionCounter.builder("repository.coalescing.wait.timeouts", flight, f -> f.getStats().waitTimeouts())
+            .tags("repository", repository, "method", method)
+            .description("相乗りの待機が上限を超えて自分で実行した回数")
+            .register(registry);
+    }
+}
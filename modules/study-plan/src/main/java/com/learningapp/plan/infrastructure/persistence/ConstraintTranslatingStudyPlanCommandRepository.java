@@ -0,0 +1,111 @@
+package com.learningapp.plan.infrastructure.persistence;
+
+import com.learningapp.base.domain.repository.BatchWriteResult;
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.base.domain.valueobject.UserId;
+import com.learningapp.plan.domain.entity.StudyGoal;
+import com.learningapp.plan.domain.entity.StudyPlan;
+import com.learningapp.plan.domain.repository.StudyPlanCommandRepository;
+import com.learningapp.plan.domain.service.StudyPlanDomainService;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * DBの制約違反をドメインの例外に変換するStudyPlan Command Repository
+ * 
+ * 期間の重複（除外制約 study_plans_no_overlap）とアクティブな計画数の上限（トリガー study_plans_active_limit）は
+ * 同時に作成された場合でもDBが弾く。その違反を事前チェック（StudyPlanDomainService）と同じ例外・メッセージで返す
+ */
+public class ConstraintTranslatingStudyPlanCommandRepository implements StudyPlanCommandRepository {
+    
+    static final String OVERLAP_CONSTRAINT = "study_plans_no_overlap";
+    static final String ACTIVE_LIMIT_CONSTRAINT = "study_plans_active_limit";
+    
+    private static final String EXCLUSION_VIOLATION = "23P01";
+    private static final String CHECK_VIOLATION = "23514";
+    
+    private final StudyPlanCommandRepository delegate;
+    
+    public ConstraintTranslatingStudyPlanCommandRepository(final StudyPlanCommandRepository delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate repository must not be null");
+    }
+    
+    @Override
+    public void save(final StudyPlan studyPlan) {
+        try {
+            delegate.save(studyPlan);
+        } catch (RuntimeException e) {
+            throw translate(e, studyPlan.getStartDate(), studyPlan.getEndDate());
+        }
+    }
+    
+    @Override
+    public void saveWithGoals(final StudyPlan studyPlan, final List<StudyGoal> studyGoals) {
+        try {
+            delegate.saveWithGoals(studyPlan, studyGoals);
+        } catch (RuntimeException e) {
+            throw translate(e, studyPlan.getStartDate(), studyPlan.getEndDate());
+        }
+    }
+    
+    @Override
+    public void delete(final StudyPlanId id) {
+        delegate.delete(id);
+    }
+    
+    @Override
+    public BatchWriteResult saveAll(final List<StudyPlan> studyPlans) {
+        return delegate.saveAll(studyPlans);
+    }
+    
+    @Override
+    public int completeAll(final Collection<StudyPlanId> ids) {
+        return delegate.completeAll(ids);
+    }
+    
+    @Override
+    public int flagNearDeadline(final Collection<StudyPlanId> ids, final LocalDate asOf) {
+        return delegate.flagNearDeadline(ids, asOf);
+    }
+    
+    @Override
+    public void deleteByUserId(final UserId userId) {
+        delegate.deleteByUserId(userId);
+    }
+    
+    /**
+     * 制約違反であればドメインの例外に変換し、それ以外はそのまま返す
+     */
+    static RuntimeException translate(final RuntimeException e, final LocalDate startDate, final LocalDate endDate) {
+        final SQLException sqlException = findSqlException(e);
+        if (sqlException == null) {
+            return e;
+        }
+        final String message = String.valueOf(sqlException.getMessage());
+        if (EXCLUSION_VIOLATION.equals(sqlException.getSQLState()) && message.contains(OVERLAP_CONSTRAINT)) {
+            return withCause(StudyPlanDomainService.overlappingPlanException(startDate, endDate), e);
+        }
+        if (CHECK_VIOLATION.equals(sqlException.getSQLState()) && message.contains(ACTIVE_LIMIT_CONSTRAINT)) {
+            return withCause(StudyPlanDomainService.activePlanLimitException(), e);
+        }
+        return e;
+    }
+    
+    private static SQLException findSqlException(final Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlException;
+            }
+        }
+        return null;
+    }
+    
+    private static IllegalArgumentException withCause(final IllegalArgumentException translated, final Throwable cause) {
+        translated.initCause(cause);
+        return translated;
+    }
+}
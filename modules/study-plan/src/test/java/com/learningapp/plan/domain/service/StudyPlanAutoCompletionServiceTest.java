@@ -0,0 +1,94 @@
+package com.learningapp.plan.domain.service;
+
+import com.learningapp.base.domain.repository.KeysetPage;
+import com.learningapp.base.domain.repository.PageCursor;
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.plan.domain.entity.StudyPlan;
+import com.learningapp.plan.domain.repository.StudyPlanCommandRepository;
+import com.learningapp.plan.domain.repository.StudyPlanLifecycleCheckpointRepository;
+import com.learningapp.plan.domain.repository.StudyPlanQueryRepository;
+import com.learningapp.plan.domain.service.StudyPlanAutoCompletionService.AutoCompletionReport;
+import com.learningapp.plan.domain.service.StudyPlanLifecycleService.Outcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.learningapp.plan.domain.service.StudyPlanAutoCompletionService.JOB_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StudyPlanAutoCompletionServiceTest {
+    
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+    private static final Duration LEASE_TIME = Duration.ofMinutes(5);
+    
+    private final StudyPlanQueryRepository queryRepository = mock(StudyPlanQueryRepository.class);
+    private final StudyPlanCommandRepository commandRepository = mock(StudyPlanCommandRepository.class);
+    private final StudyPlanDomainService domainService = mock(StudyPlanDomainService.class);
+    private final StudyPlanLifecycleCheckpointRepository checkpointRepository =
+        mock(StudyPlanLifecycleCheckpointRepository.class);
+    
+    private final StudyPlanAutoCompletionService service =
+        new StudyPlanAutoCompletionService(queryRepository, commandRepository, domainService, checkpointRepository);
+    
+    private final StudyPlan first = mock(StudyPlan.class);
+    private final StudyPlan second = mock(StudyPlan.class);
+    private final PageCursor nextCursor = PageCursor.after(LocalDateTime.of(2026, 1, 1, 0, 0), UUID.randomUUID());
+    
+    @BeforeEach
+    void setUp() {
+        when(checkpointRepository.tryLock(eq(JOB_NAME), anyString(), eq(TODAY), eq(LEASE_TIME))).thenReturn(true);
+        when(queryRepository.findActivePage(isNull(), anyInt())).thenReturn(new KeysetPage<>(List.of(first), nextCursor));
+        when(queryRepository.findActivePage(eq(nextCursor), anyInt())).thenReturn(new KeysetPage<>(List.of(second), null));
+        when(domainService.findGoalAchievedPlanIds(any())).thenReturn(Set.of(StudyPlanId.generate()));
+        when(commandRepository.completeAll(any())).thenReturn(1);
+    }
+    
+    @Test
+    void doesNothingWhileAnotherNodeHoldsTheLease() {
+        when(checkpointRepository.tryLock(eq(JOB_NAME), anyString(), eq(TODAY), eq(LEASE_TIME))).thenReturn(false);
+        
+        final AutoCompletionReport report = service.completeGoalAchievedPlans(TODAY, LEASE_TIME);
+        
+        assertThat(report).isEqualTo(new AutoCompletionReport(Outcome.LOCKED, 0, 0));
+        verify(queryRepository, never()).findActivePage(any(), anyInt());
+        verify(checkpointRepository, never()).unlock(anyString(), anyString());
+    }
+    
+    @Test
+    void renewsLeaseBetweenPagesAndReleasesIt() {
+        when(checkpointRepository.renewLease(eq(JOB_NAME), anyString(), eq(LEASE_TIME))).thenReturn(true);
+        
+        final AutoCompletionReport report = service.completeGoalAchievedPlans(TODAY, LEASE_TIME);
+        
+        assertThat(report).isEqualTo(new AutoCompletionReport(Outcome.FINISHED, 2, 2));
+        // 最終ページの後は延長しない
+        verify(checkpointRepository).renewLease(eq(JOB_NAME), anyString(), eq(LEASE_TIME));
+        verify(checkpointRepository).unlock(eq(JOB_NAME), anyString());
+    }
+    
+    @Test
+    void stopsScanningOnceTheLeaseIsLost() {
+        when(checkpointRepository.renewLease(eq(JOB_NAME), anyString(), eq(LEASE_TIME))).thenReturn(false);
+        
+        final AutoCompletionReport report = service.completeGoalAchievedPlans(TODAY, LEASE_TIME);
+        
+        assertThat(report).isEqualTo(new AutoCompletionReport(Outcome.LEASE_LOST, 1, 1));
+        verify(queryRepository, never()).findActivePage(eq(nextCursor), anyInt());
+        verify(checkpointRepository).unlock(eq(JOB_NAME), anyString());
+    }
+}
@@ -0,0 +1,188 @@
+package com.learningapp.plan.domain.service;
+
+import com.learningapp.base.domain.enums.StudyPlanStatus;
+import com.learningapp.base.domain.valueobject.StudyPlanId;
+import com.learningapp.base.domain.valueobject.UserId;
+import com.learningapp.plan.domain.entity.StudyPlan;
+import com.learningapp.plan.domain.factory.StudyPlanFactory;
+import com.learningapp.plan.domain.repository.StudyPlanCommandRepository;
+import com.learningapp.plan.domain.repository.StudyPlanDeadlineCursor;
+import com.learningapp.plan.domain.repository.StudyPlanLifecycleCheckpoint;
+import com.learningapp.plan.domain.repository.StudyPlanLifecycleCheckpointRepository;
+import com.learningapp.plan.domain.repository.StudyPlanQueryRepository;
+import com.learningapp.plan.domain.service.StudyPlanLifecycleService.LifecycleReport;
+import com.learningapp.plan.domain.service.StudyPlanLifecycleService.Outcome;
+import com.learningapp.plan.domain.validator.StudyPlanValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.learningapp.plan.domain.service.StudyPlanLifecycleService.JOB_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StudyPlanLifecycleServiceTest {
+    
+    private static final LocalDate AS_OF = LocalDate.of(2026, 10, 17);
+    private static final LocalDate END_DATE_UP_TO = AS_OF.plusDays(StudyPlan.NEAR_DEADLINE_DAYS);
+    private static final Duration LEASE_TIME = Duration.ofMinutes(5);
+    private static final int CHUNK_SIZE = 2;
+    
+    private final StudyPlanQueryRepository queryRepository = mock(StudyPlanQueryRepository.class);
+    private final StudyPlanCommandRepository commandRepository = mock(StudyPlanCommandRepository.class);
+    private final StudyPlanLifecycleCheckpointRepository checkpointRepository =
+        mock(StudyPlanLifecycleCheckpointRepository.class);
+    
+    private final StudyPlanLifecycleService service =
+        new StudyPlanLifecycleService(queryRepository, commandRepository, checkpointRepository);
+    
+    private final StudyPlan overdue = activePlan(AS_OF.minusDays(3));
+    private final StudyPlan nearDeadline = activePlan(AS_OF.plusDays(3));
+    
+    @BeforeEach
+    void setUp() {
+        when(checkpointRepository.tryLock(eq(JOB_NAME), anyString(), eq(AS_OF), eq(LEASE_TIME))).thenReturn(true);
+        when(checkpointRepository.findByJobName(JOB_NAME)).thenReturn(Optional.empty());
+        when(checkpointRepository.save(eq(JOB_NAME), anyString(), any(), eq(LEASE_TIME))).thenReturn(true);
+        when(commandRepository.completeAll(any())).thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+        when(commandRepository.flagNearDeadline(any(), eq(AS_OF)))
+            .thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+    }
+    
+    @Test
+    void doesNothingWhileAnotherNodeHoldsTheLease() {
+        when(checkpointRepository.tryLock(eq(JOB_NAME), anyString(), eq(AS_OF), eq(LEASE_TIME))).thenReturn(false);
+        
+        final LifecycleReport report = service.run(AS_OF, CHUNK_SIZE, LEASE_TIME);
+        
+        assertThat(report.outcome()).isEqualTo(Outcome.LOCKED);
+        verify(queryRepository, never()).findActiveEndingBy(any(), any(), anyInt());
+        // 他ノードのリースは解放しない
+        verify(checkpointRepository, never()).unlock(anyString(), anyString());
+    }
+    
+    @Test
+    void processesAllChunksAndReleasesTheLease() {
+        final StudyPlanDeadlineCursor afterFirstChunk = StudyPlanDeadlineCursor.after(nearDeadline);
+        when(queryRepository.findActiveEndingBy(END_DATE_UP_TO, null, CHUNK_SIZE))
+            .thenReturn(List.of(overdue, nearDeadline));
+        when(queryRepository.findActiveEndingBy(END_DATE_UP_TO, afterFirstChunk, CHUNK_SIZE)).thenReturn(List.of());
+        
+        final LifecycleReport report = service.run(AS_OF, CHUNK_SIZE, LEASE_TIME);
+        
+        assertThat(report).isEqualTo(new LifecycleReport(AS_OF, Outcome.FINISHED, false, 2, 1, 1));
+        verify(commandRepository).completeAll(List.of(overdue.getId()));
+        verify(commandRepository).flagNearDeadline(List.of(nearDeadline.getId()), AS_OF);
+        
+        // 進捗はチャンク毎に保存し、最後に完了として保存する
+        final ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(checkpointRepository).tryLock(eq(JOB_NAME), owner.capture(), eq(AS_OF), eq(LEASE_TIME));
+        verify(checkpointRepository).save(JOB_NAME, owner.getValue(),
+            new StudyPlanLifecycleCheckpoint(AS_OF, afterFirstChunk, false), LEASE_TIME);
+        verify(checkpointRepository).save(JOB_NAME, owner.getValue(),
+            new StudyPlanLifecycleCheckpoint(AS_OF, afterFirstChunk, true), LEASE_TIME);
+        verify(checkpointRepository).unlock(JOB_NAME, owner.getValue());
+    }
+    
+    @Test
+    void resumesFromTheCheckpointCursor() {
+        final StudyPlanDeadlineCursor saved = new StudyPlanDeadlineCursor(AS_OF.minusDays(10), StudyPlanId.generate());
+        when(checkpointRepository.findByJobName(JOB_NAME))
+            .thenReturn(Optional.of(new StudyPlanLifecycleCheckpoint(AS_OF, saved, false)));
+        when(queryRepository.findActiveEndingBy(END_DATE_UP_TO, saved, CHUNK_SIZE)).thenReturn(List.of(nearDeadline));
+        
+        final LifecycleReport report = service.run(AS_OF, CHUNK_SIZE, LEASE_TIME);
+        
+        assertThat(report).isEqualTo(new LifecycleReport(AS_OF, Outcome.FINISHED, true, 1, 0, 1));
+        verify(queryRepository, never()).findActiveEndingBy(any(), isNull(), anyInt());
+        verify(commandRepository, never()).completeAll(any());
+    }
+    
+    @Test
+    void startsOverWhenTheCheckpointBelongsToAnotherDay() {
+        final StudyPlanDeadlineCursor yesterdays = new StudyPlanDeadlineCursor(AS_OF.minusDays(1), StudyPlanId.generate());
+        when(checkpointRepository.findByJobName(JOB_NAME))
+            .thenReturn(Optional.of(new StudyPlanLifecycleCheckpoint(AS_OF.minusDays(1), yesterdays, true)));
+        when(queryRepository.findActiveEndingBy(END_DATE_UP_TO, null, CHUNK_SIZE)).thenReturn(List.of(overdue));
+        
+        final LifecycleReport report = service.run(AS_OF, CHUNK_SIZE, LEASE_TIME);
+        
+        assertThat(report).isEqualTo(new LifecycleReport(AS_OF, Outcome.FINISHED, false, 1, 1, 0));
+    }
+    
+    @Test
+    void skipsWhenTheDayIsAlreadyFinished() {
+        when(checkpointRepository.findByJobName(JOB_NAME))
+            .thenReturn(Optional.of(StudyPlanLifecycleCheckpoint.start(AS_OF).finish()));
+        
+        final LifecycleReport report = service.run(AS_OF, CHUNK_SIZE, LEASE_TIME);
+        
+        assertThat(report.outcome()).isEqualTo(Outcome.ALREADY_FINISHED);
+        verify(queryRepository, never()).findActiveEndingBy(any(), any(), anyInt());
+        verify(checkpointRepository).unlock(eq(JOB_NAME), anyString());
+    }
+    
+    @Test
+    void stopsOnceTheLeaseIsLost() {
+        when(queryRepository.findActiveEndingBy(END_DATE_UP_TO, null, CHUNK_SIZE))
+            .thenReturn(List.of(overdue, nearDeadline));
+        when(checkpointRepository.save(eq(JOB_NAME), anyString(), any(), eq(LEASE_TIME))).thenReturn(false);
+        
+        final LifecycleReport report = service.run(AS_OF, CHUNK_SIZE, LEASE_TIME);
+        
+        assertThat(report).isEqualTo(new LifecycleReport(AS_OF, Outcome.LEASE_LOST, false, 2, 1, 1));
+        // 続きは引き継いだノードが処理する
+        verify(queryRepository, never())
+            .findActiveEndingBy(END_DATE_UP_TO, StudyPlanDeadlineCursor.after(nearDeadline), CHUNK_SIZE);
+        verify(checkpointRepository).unlock(eq(JOB_NAME), anyString());
+    }
+    
+    @Test
+    void isInterruptedOnlyWhenUnfinishedAndUnlocked() {
+        final StudyPlanLifecycleCheckpoint unfinished = StudyPlanLifecycleCheckpoint.start(AS_OF)
+            .advance(StudyPlanDeadlineCursor.after(overdue));
+        when(checkpointRepository.findByJobName(JOB_NAME)).thenReturn(Optional.of(unfinished));
+        
+        when(checkpointRepository.isLocked(JOB_NAME)).thenReturn(false);
+        assertThat(service.isInterrupted(AS_OF)).isTrue();
+        assertThat(service.isInterrupted(AS_OF.plusDays(1))).isFalse();
+        
+        // 他ノードが処理中
+        when(checkpointRepository.isLocked(JOB_NAME)).thenReturn(true);
+        assertThat(service.isInterrupted(AS_OF)).isFalse();
+        
+        when(checkpointRepository.findByJobName(JOB_NAME)).thenReturn(Optional.of(unfinished.finish()));
+        when(checkpointRepository.isLocked(JOB_NAME)).thenReturn(false);
+        assertThat(service.isInterrupted(AS_OF)).isFalse();
+    }
+    
+    @Test
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> service.run(AS_OF, 0, LEASE_TIME)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.run(AS_OF, CHUNK_SIZE, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        verify(checkpointRepository, never()).tryLock(anyString(), anyString(), any(), any());
+    }
+    
+    private static StudyPlan activePlan(final LocalDate endDate) {
+        return new StudyPlanFactory(new StudyPlanValidator()).hydrateStudyPlan(
+            StudyPlanId.generate(), UserId.generate(), "DBスペシャリスト対策", "秋期試験",
+            LocalDate.of(2026, 4, 1), endDate, StudyPlanStatus.ACTIVE, 2,
+            LocalDateTime.of(2026, 4, 1, 9, 0), LocalDateTime.of(2026, 4, 1, 9, 0));
+    }
+}
@@ -0,0 +1,128 @@
+package com.learningapp.plan.domain.strategy;
+
+import com.learningapp.plan.domain.entity.StudyGoal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DifficultyTableTest {
+    
+    @AfterEach
+    void tearDown() {
+        DifficultyTable.reset();
+    }
+    
+    /**
+     * 閾値表導入前の判定（戦略を先頭から走査し、最初に該当したものを採用）
+     */
+    private record LegacyStrategy(int minScore, int minHours, StudyGoal.GoalDifficulty difficulty, String recommendation) {
+        
+        boolean matches(final int targetScore, final int targetHours) {
+            return targetScore >= minScore && targetHours >= minHours;
+        }
+    }
+    
+    private static final List<LegacyStrategy> LEGACY_STRATEGIES = List.of(
+        new LegacyStrategy(90, 50, StudyGoal.GoalDifficulty.VERY_HARD,
+            "非常に高い目標です。計画的な学習と十分な休息を心がけてください。"),
+        new LegacyStrategy(80, 30, StudyGoal.GoalDifficulty.HARD,
+            "挑戦的な目標です。継続的な学習が重要になります。"),
+        new LegacyStrategy(70, 20, StudyGoal.GoalDifficulty.MEDIUM,
+            "バランスの取れた目標です。着実に進めていきましょう。"),
+        new LegacyStrategy(60, 10, StudyGoal.GoalDifficulty.EASY,
+            "取り組みやすい目標です。基礎をしっかり固めましょう。"),
+        new LegacyStrategy(Integer.MIN_VALUE, Integer.MIN_VALUE, StudyGoal.GoalDifficulty.VERY_EASY,
+            "無理のない目標です。まずは学習習慣を身につけることから始めましょう。")
+    );
+    
+    private static Optional<LegacyStrategy> legacyFirstMatch(final int targetScore, final int targetHours) {
+        return LEGACY_STRATEGIES.stream()
+            .filter(strategy -> strategy.matches(targetScore, targetHours))
+            .findFirst();
+    }
+    
+    @Test
+    void defaultTableMatchesLegacyFirstMatchScanForEveryInput() {
+        for (int score = -10; score <= 150; score++) {
+            for (int hours = -10; hours <= 1_200; hours++) {
+                final LegacyStrategy expected = legacyFirstMatch(score, hours).orElseThrow();
+                
+                assertThat(DifficultyStrategy.determineDifficulty(score, hours))
+                    .as("score=%d, hours=%d", score, hours)
+                    .isEqualTo(expected.difficulty());
+                assertThat(DifficultyStrategy.getRecommendation(score, hours))
+                    .as("score=%d, hours=%d", score, hours)
+                    .contains(expected.recommendation());
+            }
+        }
+    }
+    
+    @Test
+    void extremeValuesFallIntoOuterBuckets() {
+        assertThat(DifficultyStrategy.determineDifficulty(Integer.MAX_VALUE, Integer.MAX_VALUE))
+            .isEqualTo(StudyGoal.GoalDifficulty.VERY_HARD);
+        assertThat(DifficultyStrategy.determineDifficulty(Integer.MIN_VALUE, Integer.MAX_VALUE))
+            .isEqualTo(StudyGoal.GoalDifficulty.VERY_EASY);
+        assertThat(DifficultyStrategy.determineDifficulty(Integer.MAX_VALUE, 29))
+            .isEqualTo(StudyGoal.GoalDifficulty.MEDIUM);
+    }
+    
+    @Test
+    void compiledTableMatchesFirstMatchScanForRandomStrategies() {
+        final Random random = new Random(20_240_401L);
+        final StudyGoal.GoalDifficulty[] difficulties = StudyGoal.GoalDifficulty.values();
+        
+        for (int round = 0; round < 200; round++) {
+            final List<ThresholdDifficultyStrategy> strategies = new ArrayList<>();
+            final int count = 1 + random.nextInt(6);
+            for (int i = 0; i < count; i++) {
+                strategies.add(new ThresholdDifficultyStrategy(random.nextInt(120), random.nextInt(300),
+                    difficulties[random.nextInt(difficulties.length)], "strategy-" + i));
+            }
+            strategies.add(ThresholdDifficultyStrategy.fallback(StudyGoal.GoalDifficulty.VERY_EASY, "fallback"));
+            final DifficultyTable table = DifficultyTable.compile(strategies);
+            
+            for (int score = 0; score <= 130; score++) {
+                for (int hours = 0; hours <= 320; hours++) {
+                    final int s = score;
+                    final int h = hours;
+                    final ThresholdDifficultyStrategy expected = strategies.stream()
+                        .filter(strategy -> strategy.matches(s, h))
+                        .findFirst()
+                        .orElseThrow();
+                    assertThat(table.classify(score, hours))
+                        .as("round=%d, score=%d, hours=%d, strategies=%s", round, score, hours, strategies)
+                        .isSameAs(expected);
+                }
+            }
+        }
+    }
+    
+    @Test
+    void installReplacesTableUsedByStaticLookups() {
+        DifficultyTable.install(DifficultyTable.compile(List.of(
+            new ThresholdDifficultyStrategy(50, 5, StudyGoal.GoalDifficulty.HARD, "custom"),
+            ThresholdDifficultyStrategy.fallback(StudyGoal.GoalDifficulty.EASY, "custom-fallback"))));
+        
+        assertThat(DifficultyStrategy.determineDifficulty(50, 5)).isEqualTo(StudyGoal.GoalDifficulty.HARD);
+        assertThat(DifficultyStrategy.determineDifficulty(49, 100)).isEqualTo(StudyGoal.GoalDifficulty.EASY);
+        assertThat(DifficultyStrategy.getAllStrategies()).hasSize(2);
+        
+        DifficultyTable.reset();
+        assertThat(DifficultyStrategy.determineDifficulty(50, 5)).isEqualTo(StudyGoal.GoalDifficulty.VERY_EASY);
+    }
+    
+    @Test
+    void compileRequiresFallbackStrategy() {
+        assertThatThrownBy(() -> DifficultyTable.compile(List.of(
+            new ThresholdDifficultyStrategy(50, 5, StudyGoal.GoalDifficulty.HARD, "no fallback"))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.learningapp.plan.infrastructure.coalescing;
+
+import com.learningapp.base.domain.valueobject.UserId;
+import com.learningapp.plan.domain.repository.StudyGoalQueryRepository;
+import com.learningapp.plan.domain.repository.StudyPlanQueryRepository;
+import com.learningapp.plan.domain.repository.StudyPlanQueryRepository.StudyPlanStatistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CoalescingStudyPlanQueryRepositoryTest {
+    
+    private static final StudyPlanStatistics STATISTICS = new StudyPlanStatistics(3, 1, 2, 30.0, 0.66);
+    
+    private final StudyPlanQueryRepository delegate = mock(StudyPlanQueryRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void countsCollapsedCallsPerMethod() throws Exception {
+        final UserId userId = UserId.generate();
+        final CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getStatisticsByUserId(userId)).thenAnswer(invocation -> {
+            release.await();
+            return STATISTICS;
+        });
+        final CoalescingStudyPlanQueryRepository repository =
+            new CoalescingStudyPlanQueryRepository(delegate, Duration.ofSeconds(5));
+        repository.bindTo(registry);
+        
+        final Future<StudyPlanStatistics> leader = executor.submit(() -> repository.getStatisticsByUserId(userId));
+        waitUntil(() -> repository.getStatisticsStats().inFlight() == 1);
+        final Future<StudyPlanStatistics> follower = executor.submit(() -> repository.getStatisticsByUserId(userId));
+        waitUntil(() -> repository.getStatisticsStats().collapsed() == 1);
+        release.countDown();
+        
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(STATISTICS);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(STATISTICS);
+        assertThat(count("repository.coalescing.executions")).isEqualTo(1.0);
+        assertThat(count("repository.coalescing.collapsed")).isEqualTo(1.0);
+        assertThat(count("repository.coalescing.wait.timeouts")).isZero();
+    }
+    
+    @Test
+    void countsWaitTimeoutsAsExtraExecutions() throws Exception {
+        final UserId userId = UserId.generate();
+        final CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getStatisticsByUserId(userId))
+            .thenAnswer(invocation -> {
+                release.await();
+                return STATISTICS;
+            })
+            .thenReturn(STATISTICS);
+        final CoalescingStudyPlanQueryRepository repository =
+            new CoalescingStudyPlanQueryRepository(delegate, Duration.ofMillis(50));
+        repository.bindTo(registry);
+        
+        final Future<StudyPlanStatistics> leader = executor.submit(() -> repository.getStatisticsByUserId(userId));
+        waitUntil(() -> repository.getStatisticsStats().inFlight() == 1);
+        
+        // リーダーが終わらないため、待機上限を超えた後続は自分で問い合わせる
+        assertThat(repository.getStatisticsByUserId(userId)).isEqualTo(STATISTICS);
+        release.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+        
+        assertThat(count("repository.coalescing.executions")).isEqualTo(2.0);
+        assertThat(count("repository.coalescing.collapsed")).isEqualTo(1.0);
+        assertThat(count("repository.coalescing.wait.timeouts")).isEqualTo(1.0);
+    }
+    
+    @Test
+    void tagsCountersWithRepositoryAndMethod() {
+        new CoalescingStudyPlanQueryRepository(delegate, Duration.ofSeconds(1)).bindTo(registry);
+        new CoalescingStudyGoalQueryRepository(mock(StudyGoalQueryRepository.class), Duration.ofSeconds(1)).bindTo(registry);
+        
+        assertThat(registry.find("repository.coalescing.collapsed")
+            .tags("repository", "study-plan", "method", "getStatisticsByUserId").functionCounter()).isNotNull();
+        assertThat(registry.find("repository.coalescing.collapsed")
+            .tags("repository", "study-goal", "method", "getAchievementSummaryByStudyPlan").functionCounter()).isNotNull();
+    }
+    
+    private double count(final String name) {
+        final FunctionCounter counter = registry.find(name).tag("method", "getStatisticsByUserId").functionCounter();
+        assertThat(counter).as(name).isNotNull();
+        return counter.count();
+    }
+    
+    private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5s");
+            }
+            Thread.sleep(1);
+        }
+    }
+}